@@ -0,0 +1,267 @@
+package ua.kpi.comsys.test2.implementation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Converts directories of number files to decimal notation.
+ * <p>
+ * Every regular file of the input directory is expected to hold a decimal number
+ * on its first line, the same format {@link NumberListImpl#NumberListImpl(java.io.File)}
+ * reads. Each number is loaded, converted with {@link NumberListImpl#changeScale()}
+ * and written to a file with the same name in the output directory.
+ * </p>
+ *
+ * <p>
+ * Each file is processed on its own virtual thread. Conversion is CPU-bound, so the
+ * number of files processed at the same time is limited; when the limit is reached
+ * the submitting thread waits for a running conversion to finish before starting
+ * the next one, so no more than the limit of files is held in memory at once.
+ * </p>
+ *
+ * <p>
+ * Unlike the file constructor, which silently leaves the list empty, failures are
+ * reported per file in the returned {@link Report}, together with throughput figures.
+ * </p>
+ *
+ * @author Butkevych Yevhenii
+ * @version 1.0
+ */
+public class BatchConverter {
+
+    /**
+     * Outcome of the conversion of a single file.
+     */
+    public static final class FileResult {
+        /** The input file */
+        private final Path file;
+
+        /** Number of digits written, 0 if the conversion failed */
+        private final int digits;
+
+        /** The failure cause, null if the conversion succeeded */
+        private final Throwable error;
+
+        FileResult(Path file, int digits, Throwable error) {
+            this.file = file;
+            this.digits = digits;
+            this.error = error;
+        }
+
+        /**
+         * Returns the input file.
+         *
+         * @return the path of the converted file
+         */
+        public Path getFile() {
+            return file;
+        }
+
+        /**
+         * Returns the number of digits written to the output file.
+         *
+         * @return the number of decimal digits; 0 if the conversion failed
+         */
+        public int getDigits() {
+            return digits;
+        }
+
+        /**
+         * Returns the reason the conversion failed.
+         *
+         * @return the failure cause, or null if the file was converted; an
+         *         {@link Error} such as OutOfMemoryError is reported here too
+         */
+        public Throwable getError() {
+            return error;
+        }
+
+        /**
+         * Returns true if the file was converted and written.
+         *
+         * @return true if the conversion succeeded
+         */
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return isSuccess() ? file + ": " + digits + " digits" : file + ": " + error.getMessage();
+        }
+    }
+
+    /**
+     * Results of a whole batch, in the order of the file names.
+     */
+    public static final class Report {
+        private final List<FileResult> results;
+        private final long elapsedNanos;
+
+        Report(List<FileResult> results, long elapsedNanos) {
+            this.results = Collections.unmodifiableList(results);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Returns the results of all files of the batch.
+         *
+         * @return an unmodifiable list of per-file results
+         */
+        public List<FileResult> getResults() {
+            return results;
+        }
+
+        /**
+         * Returns the results of the files that could not be converted.
+         *
+         * @return a list of failed results; empty if every file was converted
+         */
+        public List<FileResult> getFailures() {
+            return results.stream().filter(r -> !r.isSuccess()).collect(Collectors.toList());
+        }
+
+        /**
+         * Returns the wall-clock duration of the batch.
+         *
+         * @return the elapsed time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Returns the number of successfully converted files per second.
+         *
+         * @return the file throughput of the batch
+         */
+        public double filesPerSecond() {
+            return perSecond(results.size() - getFailures().size());
+        }
+
+        /**
+         * Returns the number of written digits per second.
+         *
+         * @return the digit throughput of the batch
+         */
+        public double digitsPerSecond() {
+            long digits = 0;
+            for (FileResult result : results) {
+                digits += result.getDigits();
+            }
+            return perSecond(digits);
+        }
+
+        private double perSecond(long count) {
+            return elapsedNanos == 0 ? 0 : count * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d files, %d failed, %.1f files/s, %.1f digits/s",
+                    results.size(), getFailures().size(), filesPerSecond(), digitsPerSecond());
+        }
+    }
+
+    /** Maximum number of files converted at the same time */
+    private final int maxConcurrency;
+
+    /**
+     * Creates a converter processing up to one file per available processor at a time.
+     */
+    public BatchConverter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a converter processing up to the given number of files at a time.
+     *
+     * @param maxConcurrency the maximum number of concurrent conversions; must be positive
+     * @throws IllegalArgumentException if maxConcurrency is not positive
+     */
+    public BatchConverter(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Converts every regular file of the input directory into the output directory.
+     * The output directory is created if it does not exist.
+     *
+     * @param inputDir the directory with decimal number files
+     * @param outputDir the directory for the converted files
+     * @return the per-file results and throughput of the batch; never null
+     * @throws IOException if the input directory cannot be listed or the output directory created
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public Report convert(Path inputDir, Path outputDir) throws IOException, InterruptedException {
+        List<Path> files;
+        try (Stream<Path> entries = Files.list(inputDir)) {
+            files = entries.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        Files.createDirectories(outputDir);
+
+        long start = System.nanoTime();
+        FileResult[] results = new FileResult[files.size()];
+        Semaphore permits = new Semaphore(maxConcurrency);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < files.size(); i++) {
+                permits.acquire();
+                int index = i;
+                executor.execute(() -> {
+                    try {
+                        results[index] = convertFile(files.get(index), outputDir);
+                    } catch (Throwable e) {
+                        results[index] = new FileResult(files.get(index), 0, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        List<FileResult> list = new ArrayList<>(results.length);
+        Collections.addAll(list, results);
+        return new Report(list, System.nanoTime() - start);
+    }
+
+    private static FileResult convertFile(Path file, Path outputDir) {
+        try {
+            String line;
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+                line = reader.readLine();
+            }
+            if (line == null) {
+                throw new IOException("File is empty");
+            }
+            if (!DigitScan.isSignedDecimal(line)) {
+                throw new NumberFormatException("Not a decimal number: " + abbreviate(line));
+            }
+
+            NumberListImpl converted = new NumberListImpl(line).changeScale();
+            Files.writeString(outputDir.resolve(file.getFileName()), converted.toString(),
+                    StandardCharsets.US_ASCII);
+            return new FileResult(file, converted.size(), null);
+        } catch (IOException | RuntimeException e) {
+            return new FileResult(file, 0, e);
+        }
+    }
+
+    private static String abbreviate(String line) {
+        return line.length() <= 32 ? line : line.substring(0, 32) + "...";
+    }
+}
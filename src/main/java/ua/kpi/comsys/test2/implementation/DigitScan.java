@@ -0,0 +1,119 @@
+package ua.kpi.comsys.test2.implementation;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Scanning kernels for digit arrays and decimal input.
+ * <p>
+ * Array searches read eight digits at a time as a single {@code long} and find
+ * matching bytes with branch-free bit arithmetic (SWAR), falling back to a plain
+ * loop for the remaining digits. Validation of decimal strings is a single
+ * pass over the characters, with no regular expression.
+ * </p>
+ *
+ * @author Butkevych Yevhenii
+ * @version 1.0
+ */
+final class DigitScan {
+
+    /** Reads eight bytes of an array as a little-endian long */
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    private DigitScan() {
+    }
+
+    /**
+     * Returns true if the sequence is non-empty and consists of ASCII digits only.
+     *
+     * @param value the sequence to check; may be null
+     * @return true if value is a non-empty decimal number without sign
+     */
+    static boolean isDecimal(CharSequence value) {
+        if (value == null || value.length() == 0) return false;
+        for (int i = 0; i < value.length(); i++) {
+            if ((char) (value.charAt(i) - '0') > 9) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the sequence is a decimal number, optionally preceded by {@code '-'}.
+     *
+     * @param value the sequence to check; may be null
+     * @return true if value is a non-empty decimal number with an optional minus sign
+     */
+    static boolean isSignedDecimal(CharSequence value) {
+        if (value == null || value.length() == 0) return false;
+        if (value.charAt(0) == '-') {
+            return isDecimal(value.subSequence(1, value.length()));
+        }
+        return isDecimal(value);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the value in the range [from, to),
+     * or -1 if there is none.
+     */
+    static int indexOf(byte[] digits, int from, int to, byte value) {
+        long pattern = ONES * (value & 0xFF);
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long mask = matches((long) LONGS.get(digits, i), pattern);
+            if (mask != 0) {
+                return i + (Long.numberOfTrailingZeros(mask) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (digits[i] == value) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the value in the range [from, to),
+     * or -1 if there is none.
+     */
+    static int lastIndexOf(byte[] digits, int from, int to, byte value) {
+        long pattern = ONES * (value & 0xFF);
+        int i = to;
+        for (; i - Long.BYTES >= from; i -= Long.BYTES) {
+            long mask = matches((long) LONGS.get(digits, i - Long.BYTES), pattern);
+            if (mask != 0) {
+                return i - Long.BYTES + ((63 - Long.numberOfLeadingZeros(mask)) >>> 3);
+            }
+        }
+        for (i--; i >= from; i--) {
+            if (digits[i] == value) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Adds the number of occurrences of every digit in the range [from, to)
+     * to the corresponding element of {@code counts}.
+     * Digits outside the bounds of {@code counts} are ignored.
+     */
+    static void histogram(byte[] digits, int from, int to, int[] counts) {
+        for (int i = from; i < to; i++) {
+            int digit = digits[i];
+            if (digit >= 0 && digit < counts.length) {
+                counts[digit]++;
+            }
+        }
+    }
+
+    /**
+     * Returns a mask with the high bit of every byte of {@code word} equal to
+     * the corresponding byte of {@code pattern} set, and all other bits clear.
+     */
+    private static long matches(long word, long pattern) {
+        long x = word ^ pattern;
+        long y = (x & LOW_BITS) + LOW_BITS;
+        return ~(y | x | LOW_BITS);
+    }
+}
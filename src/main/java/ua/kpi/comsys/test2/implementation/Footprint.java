@@ -0,0 +1,52 @@
+package ua.kpi.comsys.test2.implementation;
+
+/**
+ * Estimated heap sizes of the objects making up the lists of this package.
+ * <p>
+ * The estimates assume the common layout of a 64-bit HotSpot JVM with compressed
+ * class pointers and references: a 12-byte object header, 4-byte references,
+ * a 16-byte array header and sizes rounded up to 8 bytes. They are meant for
+ * weighing lists against each other, not for exact accounting.
+ * </p>
+ *
+ * @author Butkevych Yevhenii
+ * @version 1.0
+ */
+final class Footprint {
+
+    /** Size of an object header */
+    static final int HEADER = 12;
+
+    /** Size of an array header, including the length */
+    static final int ARRAY_HEADER = 16;
+
+    /** Size of a reference */
+    static final int REFERENCE = 4;
+
+    private Footprint() {
+    }
+
+    /**
+     * Returns the size of an object with the given header and field bytes.
+     *
+     * @param fieldBytes the total size of the fields
+     * @return the size rounded up to the object alignment
+     */
+    static long object(long fieldBytes) {
+        return align(HEADER + fieldBytes);
+    }
+
+    /**
+     * Returns the size of a byte array.
+     *
+     * @param length the length of the array
+     * @return the size rounded up to the object alignment
+     */
+    static long byteArray(int length) {
+        return align(ARRAY_HEADER + (long) length);
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
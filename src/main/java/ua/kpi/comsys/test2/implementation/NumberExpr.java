@@ -0,0 +1,218 @@
+package ua.kpi.comsys.test2.implementation;
+
+import ua.kpi.comsys.test2.NumberList;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lazy arithmetic expression over {@link NumberList} operands.
+ * <p>
+ * Calls like {@code a.additionalOperation(b).additionalOperation(c).changeScale()}
+ * build a complete digit chain for every intermediate result. A {@code NumberExpr}
+ * only records the operations as a graph; nothing is computed until
+ * {@link #evaluate()} or {@link #inRadix(int)} is called.
+ * </p>
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>
+ * NumberListImpl decimal = NumberExpr.of(a).times(b).times(c).inRadix(10);
+ * </pre>
+ *
+ * <p>
+ * During evaluation nested products are flattened into a single list of factors
+ * and multiplied as a balanced tree, so factors of similar size meet each other
+ * instead of one growing accumulator. Sub-expressions shared by several parents
+ * are evaluated once. Intermediate values are never materialized as linked lists:
+ * only the final result is written as digits, directly in the requested radix.
+ * </p>
+ *
+ * <p>
+ * Operands are read when the expression is evaluated, not when it is built, so
+ * modifications made to an operand list in between are visible in the result.
+ * </p>
+ *
+ * @author Butkevych Yevhenii
+ * @version 1.0
+ */
+public abstract class NumberExpr {
+
+    /**
+     * Leaf expression referring to a single operand list.
+     */
+    private static final class Operand extends NumberExpr {
+        /** The operand; read on every evaluation */
+        private final NumberListImpl value;
+
+        Operand(NumberListImpl value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Product of two sub-expressions.
+     */
+    private static final class Product extends NumberExpr {
+        /** Left factor */
+        private final NumberExpr left;
+
+        /** Right factor */
+        private final NumberExpr right;
+
+        Product(NumberExpr left, NumberExpr right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    private NumberExpr() {
+    }
+
+    /**
+     * Creates an expression consisting of a single operand.
+     *
+     * @param value the operand; must not be null
+     * @return a new expression; never null
+     * @throws NullPointerException if value is null
+     * @throws ClassCastException if value is not an instance of NumberListImpl
+     */
+    public static NumberExpr of(NumberList value) {
+        return new Operand((NumberListImpl) Objects.requireNonNull(value, "value"));
+    }
+
+    /**
+     * Returns an expression for the product of this expression and the given operand.
+     *
+     * @param other the second factor; must not be null
+     * @return a new expression; never null
+     * @throws NullPointerException if other is null
+     * @throws ClassCastException if other is not an instance of NumberListImpl
+     */
+    public NumberExpr times(NumberList other) {
+        return times(of(other));
+    }
+
+    /**
+     * Returns an expression for the product of this expression and another one.
+     * The same expression object may be used as a factor in several places;
+     * it is evaluated only once per evaluation of the whole graph.
+     *
+     * @param other the second factor; must not be null
+     * @return a new expression; never null
+     * @throws NullPointerException if other is null
+     */
+    public NumberExpr times(NumberExpr other) {
+        return new Product(this, Objects.requireNonNull(other, "other"));
+    }
+
+    /**
+     * Evaluates this expression into a new octal list.
+     * Equivalent to {@code inRadix(8)}.
+     *
+     * @return a new NumberListImpl holding the octal value of this expression; never null
+     */
+    public NumberListImpl evaluate() {
+        return inRadix(8);
+    }
+
+    /**
+     * Evaluates this expression and writes the result directly in the given radix,
+     * without building an octal list first. With radix 10 the result matches
+     * {@code evaluate().changeScale()}.
+     *
+     * @param radix the radix of the resulting digits, from 2 to 10
+     * @return a new NumberListImpl holding the value in the given radix; never null
+     * @throws IllegalArgumentException if the radix is out of range
+     */
+    public NumberListImpl inRadix(int radix) {
+        if (radix < 2 || radix > 10) {
+            throw new IllegalArgumentException("Radix: " + radix);
+        }
+        return NumberListImpl.fromBigInteger(value(), radix);
+    }
+
+    /**
+     * Computes the value of this expression.
+     *
+     * @return the value of this expression; never null
+     */
+    BigInteger value() {
+        Map<NumberExpr, Integer> references = new IdentityHashMap<>();
+        countReferences(this, references);
+        return new Evaluation(references).valueOf(this);
+    }
+
+    /**
+     * Counts how many parents refer to each node reachable from the given one.
+     * Every node is descended into only once.
+     */
+    private static void countReferences(NumberExpr expr, Map<NumberExpr, Integer> references) {
+        List<NumberExpr> pending = new ArrayList<>();
+        pending.add(expr);
+        while (!pending.isEmpty()) {
+            NumberExpr current = pending.remove(pending.size() - 1);
+            if (references.merge(current, 1, Integer::sum) > 1) continue;
+            if (current instanceof Product) {
+                Product product = (Product) current;
+                pending.add(product.left);
+                pending.add(product.right);
+            }
+        }
+    }
+
+    /**
+     * State of a single evaluation: reference counts of the graph nodes
+     * and values of the shared nodes computed so far.
+     */
+    private static final class Evaluation {
+        private final Map<NumberExpr, Integer> references;
+        private final Map<NumberExpr, BigInteger> shared = new IdentityHashMap<>();
+
+        Evaluation(Map<NumberExpr, Integer> references) {
+            this.references = references;
+        }
+
+        BigInteger valueOf(NumberExpr expr) {
+            BigInteger value = shared.get(expr);
+            if (value != null) return value;
+
+            if (expr instanceof Operand) {
+                value = ((Operand) expr).value.toBigInteger();
+            } else {
+                List<BigInteger> factors = new ArrayList<>();
+                collectFactors(expr, factors);
+                value = new ProductTree(factors, Runnable::run).root();
+            }
+
+            if (references.get(expr) > 1) {
+                shared.put(expr, value);
+            }
+            return value;
+        }
+
+        /**
+         * Flattens the product rooted at the given node into a list of factors.
+         * Products referenced from elsewhere are kept as a single factor,
+         * so their value can be reused.
+         */
+        private void collectFactors(NumberExpr expr, List<BigInteger> factors) {
+            List<NumberExpr> pending = new ArrayList<>();
+            pending.add(expr);
+            while (!pending.isEmpty()) {
+                NumberExpr current = pending.remove(pending.size() - 1);
+                boolean inline = current == expr || references.get(current) == 1;
+                if (current instanceof Product && inline) {
+                    Product product = (Product) current;
+                    pending.add(product.right);
+                    pending.add(product.left);
+                } else {
+                    factors.add(valueOf(current));
+                }
+            }
+        }
+    }
+}
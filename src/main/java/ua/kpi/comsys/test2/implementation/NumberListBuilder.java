@@ -0,0 +1,224 @@
+package ua.kpi.comsys.test2.implementation;
+
+import ua.kpi.comsys.test2.implementation.NumberListMetrics.Operation;
+import ua.kpi.comsys.test2.implementation.NumberListMetrics.OperationEvent;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds a {@link NumberListImpl} from decimal input that arrives in pieces.
+ * <p>
+ * Digits are converted as they are fed: every {@value #CHUNK_DIGITS} digits are
+ * packed into a {@code long}, and completed chunks are merged into binary segments
+ * the way a binary counter carries, so a segment of {@code 2^k} chunks is built from
+ * two segments of {@code 2^(k-1)} chunks. Only the segments and the powers of ten
+ * needed to merge them are kept, never the decimal text, so working memory stays
+ * proportional to the binary size of the number fed so far.
+ * </p>
+ *
+ * <p>
+ * The input is a decimal number, optionally preceded by {@code '-'}, the same
+ * format the {@link NumberListImpl#NumberListImpl(String) string constructor} accepts.
+ * It may end with a single line terminator, {@code \n} or {@code \r\n}, like a line
+ * of a {@link NumberListFile}; nothing may follow the terminator.
+ * </p>
+ *
+ * @author Butkevych Yevhenii
+ * @version 1.0
+ */
+public class NumberListBuilder {
+
+    /** Number of decimal digits packed into a single chunk */
+    static final int CHUNK_DIGITS = 18;
+
+    /** Powers of ten for chunks shorter than {@value #CHUNK_DIGITS} digits */
+    private static final long[] TEN_POWERS = new long[CHUNK_DIGITS + 1];
+
+    static {
+        TEN_POWERS[0] = 1;
+        for (int i = 1; i < TEN_POWERS.length; i++) {
+            TEN_POWERS[i] = TEN_POWERS[i - 1] * 10;
+        }
+    }
+
+    /** Size of the buffer used to read from channels */
+    private static final int READ_BUFFER = 8192;
+
+    /** Completed segments, most significant first; segment i has 2^levels[i] chunks */
+    private final List<BigInteger> segments = new ArrayList<>();
+
+    /** Level of every segment, strictly decreasing */
+    private final List<Integer> levels = new ArrayList<>();
+
+    /** Powers 10^(CHUNK_DIGITS * 2^k), computed on demand */
+    private final List<BigInteger> powers = new ArrayList<>();
+
+    /** Value of the incomplete chunk */
+    private long chunk;
+
+    /** Number of digits in the incomplete chunk */
+    private int chunkDigits;
+
+    /** Total number of digits fed */
+    private long digits;
+
+    /** Whether the input started with a minus sign */
+    private boolean negative;
+
+    /** Whether a carriage return was fed, which may only be followed by a line feed */
+    private boolean carriageReturn;
+
+    /** Whether the line terminator was fed, which ends the input */
+    private boolean terminated;
+
+    /**
+     * Appends decimal digits to the number.
+     *
+     * @param text the next piece of the number; must not be null
+     * @return this builder
+     * @throws NumberFormatException if text contains a character other than a decimal digit,
+     *         a leading minus sign or a final line terminator; the digits preceding it are kept
+     */
+    public NumberListBuilder feed(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            append(text.charAt(i));
+        }
+        return this;
+    }
+
+    /**
+     * Appends the remaining bytes of the buffer, read as ASCII decimal digits.
+     * The buffer position is advanced to its limit.
+     *
+     * @param buffer the next piece of the number; must not be null
+     * @return this builder
+     * @throws NumberFormatException if a byte is not an ASCII decimal digit, a leading minus
+     *         sign or a final line terminator; the buffer is left positioned after the offending byte
+     */
+    public NumberListBuilder feed(ByteBuffer buffer) {
+        while (buffer.hasRemaining()) {
+            append((char) (buffer.get() & 0xFF));
+        }
+        return this;
+    }
+
+    /**
+     * Reads the channel up to its end or a line terminator, appending every byte as
+     * an ASCII decimal digit. Reading stops as soon as the terminator arrives, so a
+     * number sent as a line over a pipe or a socket is read without waiting for the
+     * peer to close it. The channel is not closed.
+     *
+     * @param channel the source of the remaining digits; must not be null
+     * @return this builder
+     * @throws IOException if reading from the channel fails
+     * @throws NumberFormatException if a byte is not an ASCII decimal digit, a leading minus
+     *         sign or a final line terminator, or if data follows the terminator in the same read
+     */
+    public NumberListBuilder feed(ReadableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER);
+        while (!terminated && channel.read(buffer) >= 0) {
+            buffer.flip();
+            feed(buffer);
+            buffer.clear();
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of decimal digits fed so far.
+     *
+     * @return the number of digits, including leading zeros
+     */
+    public long digitCount() {
+        return digits;
+    }
+
+    /**
+     * Creates a list with the octal representation of the digits fed so far.
+     * The builder is not reset, so more digits may be fed and another list built.
+     *
+     * @return a new list; empty if no digits were fed
+     */
+    public NumberListImpl build() {
+        if (digits == 0) {
+            return new NumberListImpl();
+        }
+        OperationEvent event = NumberListMetrics.begin(Operation.CONSTRUCT);
+
+        BigInteger value = BigInteger.ZERO;
+        for (int i = 0; i < segments.size(); i++) {
+            value = value.multiply(power(levels.get(i))).add(segments.get(i));
+        }
+        value = value.multiply(BigInteger.valueOf(TEN_POWERS[chunkDigits])).add(BigInteger.valueOf(chunk));
+
+        NumberListImpl result = NumberListImpl.fromBigInteger(value, 8);
+        result.setNegative(negative);
+        NumberListMetrics.end(event, result.size());
+        return result;
+    }
+
+    private void append(char c) {
+        if (terminated) {
+            throw new NumberFormatException("Data after the line terminator at position " + digits + ": '" + c + "'");
+        }
+        if (c == '\n') {
+            terminated = true;
+            return;
+        }
+        if (carriageReturn) {
+            throw new NumberFormatException("Carriage return not followed by a line feed at position " + digits);
+        }
+        if (c == '\r') {
+            carriageReturn = true;
+            return;
+        }
+        if (c == '-' && digits == 0 && !negative) {
+            negative = true;
+            return;
+        }
+        int digit = c - '0';
+        if (digit < 0 || digit > 9) {
+            throw new NumberFormatException("Not a decimal digit at position " + digits + ": '" + c + "'");
+        }
+        chunk = chunk * 10 + digit;
+        digits++;
+        if (++chunkDigits == CHUNK_DIGITS) {
+            push(BigInteger.valueOf(chunk));
+            chunk = 0;
+            chunkDigits = 0;
+        }
+    }
+
+    /**
+     * Adds a completed chunk, merging segments of equal length.
+     */
+    private void push(BigInteger value) {
+        int level = 0;
+        int last = segments.size() - 1;
+        while (last >= 0 && levels.get(last) == level) {
+            value = segments.remove(last).multiply(power(level)).add(value);
+            levels.remove(last);
+            level++;
+            last--;
+        }
+        segments.add(value);
+        levels.add(level);
+    }
+
+    /**
+     * Returns 10^(CHUNK_DIGITS * 2^level), the weight of a segment of the given level.
+     */
+    private BigInteger power(int level) {
+        while (powers.size() <= level) {
+            powers.add(powers.isEmpty()
+                    ? BigInteger.valueOf(TEN_POWERS[CHUNK_DIGITS])
+                    : powers.get(powers.size() - 1).pow(2));
+        }
+        return powers.get(level);
+    }
+}
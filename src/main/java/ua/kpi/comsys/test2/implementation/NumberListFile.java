@@ -0,0 +1,180 @@
+package ua.kpi.comsys.test2.implementation;
+
+import ua.kpi.comsys.test2.NumberList;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A file holding many numbers, one decimal number per line.
+ * <p>
+ * Every line has the format {@link NumberListImpl#NumberListImpl(java.io.File)} reads
+ * from the first line of a single-number file, so existing files are valid one-number
+ * containers. Lines end with {@code \n} or {@code \r\n}; a final line terminator is optional.
+ * </p>
+ *
+ * <p>
+ * {@link #open(Path)} maps the whole file into memory and builds an index of line
+ * offsets in one pass, after which any number can be loaded by its index without
+ * reading the others. {@link #loadAll()} and {@link #load(int...)} parse the lines in
+ * parallel on the common fork-join pool, straight from the mapped bytes.
+ * {@link #write(Path, List)} converts numbers to decimal in parallel batches and
+ * writes each batch with a single buffered stream.
+ * </p>
+ *
+ * @author Butkevych Yevhenii
+ * @version 1.0
+ */
+public final class NumberListFile {
+
+    /** Number of numbers converted in parallel before a batch is written */
+    private static final int WRITE_BATCH = 4096;
+
+    /** Size of the output buffer */
+    private static final int WRITE_BUFFER = 1 << 16;
+
+    /** The mapped content of the file */
+    private final MappedByteBuffer content;
+
+    /** Start offset of every line, followed by the length of the content */
+    private final int[] starts;
+
+    /** Number of lines */
+    private final int size;
+
+    private NumberListFile(MappedByteBuffer content, int[] starts, int size) {
+        this.content = content;
+        this.starts = starts;
+        this.size = size;
+    }
+
+    /**
+     * Maps a file into memory and indexes its lines.
+     *
+     * @param file the file to open; must not be null
+     * @return the opened file; never null
+     * @throws IOException if the file cannot be read, or is 2 GB or larger
+     */
+    public static NumberListFile open(Path file) throws IOException {
+        MappedByteBuffer content;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map: " + file);
+            }
+            content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        int length = content.limit();
+        int[] starts = new int[16];
+        int size = 0;
+        for (int i = 0; i < length; ) {
+            if (size + 1 >= starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+            }
+            starts[size++] = i;
+            while (i < length && content.get(i) != '\n') {
+                i++;
+            }
+            i++;
+        }
+        starts[size] = length;
+        return new NumberListFile(content, starts, size);
+    }
+
+    /**
+     * Returns the number of numbers in the file.
+     *
+     * @return the number of lines
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Loads the number with the given index.
+     *
+     * @param index the index of the line, starting from 0
+     * @return a new list with the number in octal; empty if the line is empty
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws NumberFormatException if the line is not a decimal number
+     */
+    public NumberListImpl get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int from = starts[index];
+        int to = starts[index + 1];
+        if (to > from && content.get(to - 1) == '\n') to--;
+        if (to > from && content.get(to - 1) == '\r') to--;
+
+        try {
+            return new NumberListBuilder().feed(content.slice(from, to - from)).build();
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException("Line " + index + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Loads all numbers of the file in parallel.
+     *
+     * @return the numbers in file order; never null
+     * @throws NumberFormatException if a line is not a decimal number
+     */
+    public List<NumberListImpl> loadAll() {
+        NumberListImpl[] result = new NumberListImpl[size];
+        Arrays.parallelSetAll(result, this::get);
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Loads the numbers with the given indexes in parallel.
+     *
+     * @param indexes the indexes of the lines to load, in any order
+     * @return the numbers in the order of indexes; never null
+     * @throws IndexOutOfBoundsException if an index is out of range
+     * @throws NumberFormatException if a requested line is not a decimal number
+     */
+    public List<NumberListImpl> load(int... indexes) {
+        NumberListImpl[] result = new NumberListImpl[indexes.length];
+        Arrays.parallelSetAll(result, i -> get(indexes[i]));
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Writes the numbers to a file in decimal, one per line, replacing its content.
+     *
+     * @param file the file to write; must not be null
+     * @param numbers the numbers to write; must not contain null
+     * @throws IOException if the file cannot be written
+     * @throws ClassCastException if a number is not an instance of NumberListImpl
+     */
+    public static void write(Path file, List<? extends NumberList> numbers) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), WRITE_BUFFER)) {
+            byte[][] batch = new byte[WRITE_BATCH][];
+            for (int from = 0; from < numbers.size(); from += WRITE_BATCH) {
+                int start = from;
+                int count = Math.min(WRITE_BATCH, numbers.size() - from);
+                Arrays.parallelSetAll(batch, i -> i < count ? toLine(numbers.get(start + i)) : null);
+                for (int i = 0; i < count; i++) {
+                    out.write(batch[i]);
+                }
+            }
+        }
+    }
+
+    private static byte[] toLine(NumberList number) {
+        NumberListImpl list = (NumberListImpl) number;
+        return list.isEmpty()
+                ? new byte[] {'\n'}
+                : (list.toDecimalString() + '\n').getBytes(StandardCharsets.US_ASCII);
+    }
+}
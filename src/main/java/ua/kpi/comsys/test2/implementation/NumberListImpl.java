@@ -1,10 +1,18 @@
 package ua.kpi.comsys.test2.implementation;
 
 import ua.kpi.comsys.test2.NumberList;
+import ua.kpi.comsys.test2.implementation.NumberListMetrics.Operation;
+import ua.kpi.comsys.test2.implementation.NumberListMetrics.OperationEvent;
 
 import java.io.*;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 /**
  * Custom implementation of INumberList interface.
@@ -15,6 +23,11 @@ import java.util.*;
  * points to tail, enabling efficient operations in both directions.
  * </p>
  *
+ * <p>
+ * The digits hold the magnitude of the number; its sign is a separate flag, so
+ * changing the sign or combining the signs of operands never touches the digits.
+ * </p>
+ *
  * <p><strong>Assignment Parameters:</strong></p>
  * <ul>
  * <li>Number: 2</li>
@@ -28,7 +41,7 @@ import java.util.*;
  * @author Butkevych Yevhenii
  * @version 1.0
  */
-public class NumberListImpl implements NumberList {
+public class NumberListImpl implements NumberList, Comparable<NumberList> {
 
     /**
      * Node class for circular doubly-linked list.
@@ -55,6 +68,81 @@ public class NumberListImpl implements NumberList {
         }
     }
 
+    /** Number of digits handed to streaming consumers at once */
+    private static final int STREAM_CHUNK = 8192;
+
+    /**
+     * Packed copy of the digits, tagged with the modification count it was taken at.
+     * Immutable, so it is safely published to reading threads through a volatile field.
+     */
+    private static final class DigitIndex {
+        /** The digits, most significant first */
+        final byte[] digits;
+
+        /** Value of {@link #modCount} when the copy was taken */
+        final int modCount;
+
+        DigitIndex(byte[] digits, int modCount) {
+            this.digits = digits;
+            this.modCount = modCount;
+        }
+    }
+
+    /**
+     * Leading zeros of the list, tagged with the modification count they were counted at.
+     * Immutable, so it is safely published to reading threads through a volatile field.
+     */
+    private static final class Significance {
+        /** Number of leading zero digits */
+        final int zeros;
+
+        /** Number of digits following the leading zeros */
+        final int digits;
+
+        /** First non-zero node, or null if all digits are zero */
+        final Node first;
+
+        /** Value of {@link #modCount} when the zeros were counted */
+        final int modCount;
+
+        Significance(int zeros, int digits, Node first, int modCount) {
+            this.zeros = zeros;
+            this.digits = digits;
+            this.first = first;
+            this.modCount = modCount;
+        }
+    }
+
+    /**
+     * Hash code of the list, tagged with the modification count it was computed at.
+     * Immutable, so it is safely published to reading threads through a volatile field.
+     */
+    private static final class HashCode {
+        /** The hash code */
+        final int value;
+
+        /** Value of {@link #modCount} when the hash code was computed */
+        final int modCount;
+
+        HashCode(int value, int modCount) {
+            this.value = value;
+            this.modCount = modCount;
+        }
+    }
+
+    /** Estimated size of a node: a digit and two links */
+    private static final long NODE_FOOTPRINT = Footprint.object(1 + 2 * Footprint.REFERENCE);
+
+    /**
+     * Estimated size of a list without its nodes, index and snapshot: six references,
+     * three ints and three flags, plus the leading zeros and hash code holders
+     */
+    private static final long LIST_FOOTPRINT = Footprint.object(6 * Footprint.REFERENCE + 3 * 4 + 3)
+            + Footprint.object(Footprint.REFERENCE + 3 * 4) + Footprint.object(2 * 4);
+
+    /** Divisors of up to this many bits are divided digit by digit in a {@code long} */
+    private static final int SMALL_DIVISOR_BITS = 60;
+
     /** Reference to the first node in the circular list */
     private Node head;
 
@@ -64,6 +152,33 @@ public class NumberListImpl implements NumberList {
     /** The number of nodes currently in the list */
     private int size;
 
+    /** Number of modifications of the list contents, used to invalidate cached values */
+    private int modCount;
+
+    /** Cached hash code; stale once {@link #modCount} changes, null if never computed */
+    private volatile HashCode hash;
+
+    /** Cached leading zeros; stale once {@link #modCount} changes, null if never counted */
+    private volatile Significance significance;
+
+    /** Whether the number is negative; ignored while all digits are zero */
+    private boolean negative;
+
+    /** Whether modifications are rejected */
+    private boolean readOnly;
+
+    /** Whether positional queries use {@link #digitIndex} */
+    private boolean indexed;
+
+    /** Packed digits for positional queries; stale once {@link #modCount} changes */
+    private volatile DigitIndex digitIndex;
+
+    /** Cached immutable copy, valid while {@link #snapshotModCount} equals {@link #modCount} */
+    private PersistentNumberList snapshot;
+
+    /** Value of {@link #modCount} when {@link #snapshot} was taken */
+    private int snapshotModCount;
+
     /**
      * Default constructor. Creates an empty NumberListImpl representing zero.
      */
@@ -75,7 +190,8 @@ public class NumberListImpl implements NumberList {
 
     /**
      * Constructs a new NumberListImpl by reading a decimal number from a file.
-     * The file should contain a single line with a decimal number in string format.
+     * The file should contain a single line with a decimal number in string format,
+     * optionally preceded by {@code '-'}.
      * The number is automatically converted to octal representation internally.
      *
      * @param file the file containing a decimal number
@@ -83,22 +199,18 @@ public class NumberListImpl implements NumberList {
      */
     public NumberListImpl(File file) {
         this();
+        OperationEvent event = NumberListMetrics.begin(Operation.LOAD);
         try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line = reader.readLine();
-            if (line != null && line.matches("\\d+")) {
-                BigInteger decimal = new BigInteger(line);
-                String octalStr = decimal.toString(8);
-                for (char c : octalStr.toCharArray()) {
-                    add(Byte.parseByte(String.valueOf(c)));
-                }
-            }
+            appendDecimal(reader.readLine());
         } catch (IOException e) {
             // Silent failure - list remains empty
         }
+        NumberListMetrics.end(event, size);
     }
 
     /**
-     * Constructs a new NumberListImpl from a decimal number in string notation.
+     * Constructs a new NumberListImpl from a decimal number in string notation,
+     * optionally preceded by {@code '-'} for a negative number.
      * The input string is converted from decimal to octal representation internally.
      *
      * <p><strong>Example:</strong></p>
@@ -112,28 +224,39 @@ public class NumberListImpl implements NumberList {
      */
     public NumberListImpl(String value) {
         this();
-        if (value != null && value.matches("\\d+")) {
+        OperationEvent event = NumberListMetrics.begin(Operation.CONSTRUCT);
+        appendDecimal(value);
+        NumberListMetrics.end(event, size);
+    }
+
+    /**
+     * Fills this empty list with the value of a signed decimal string.
+     * Leaves the list empty if the string is not a valid number.
+     */
+    private void appendDecimal(String value) {
+        if (DigitScan.isSignedDecimal(value)) {
             BigInteger decimal = new BigInteger(value);
-            String octalStr = decimal.toString(8);
-            for (char c : octalStr.toCharArray()) {
-                add(Byte.parseByte(String.valueOf(c)));
-            }
+            appendDigits(decimal.abs(), 8);
+            negative = decimal.signum() < 0;
         }
     }
 
     /**
-     * Saves the number stored in this list to the specified file in decimal notation.
-     * The octal number is converted to decimal before writing.
+     * Saves the number stored in this list to the specified file in decimal notation,
+     * preceded by {@code '-'} if it is negative. The decimal digits are written to the file as the conversion produces them,
+     * most significant first, without building the whole decimal string.
      *
      * @param file the file where the decimal number will be saved
      * @throws IOException if an I/O error occurs while writing to the file
      */
     public void saveList(File file) {
-        try (PrintWriter writer = new PrintWriter(file)) {
-            writer.print(toDecimalString());
+        OperationEvent event = NumberListMetrics.begin(Operation.SAVE);
+        try (OutputStream out = new FileOutputStream(file)) {
+            writeDecimalTo(out);
         } catch (IOException e) {
             e.printStackTrace();
         }
+        NumberListMetrics.end(event, size);
     }
 
     /**
@@ -157,29 +280,19 @@ public class NumberListImpl implements NumberList {
      * NumberListImpl decimal = octal.changeScale();   // returns "8" in decimal
      * </pre>
      *
+     * <p>
+     * Numbers of at least {@link NumberListTuning#getParallelConversionBits()} bits
+     * are split recursively by powers of ten, and both halves of each split are
+     * converted in parallel on the common fork-join pool.
+     * </p>
+     *
      * @return a new NumberListImpl containing the decimal representation; never null
      */
     public NumberListImpl changeScale() {
-        String octalString = this.toString();
-        BigInteger decimalValue;
-
-        if (octalString.isEmpty()) {
-            decimalValue = BigInteger.ZERO;
-        } else {
-            decimalValue = new BigInteger(octalString, 8);
-        }
-
-        NumberListImpl result = new NumberListImpl();
-        if (decimalValue.equals(BigInteger.ZERO)) {
-            result.add((byte) 0);
-            return result;
-        }
-
-        String decimalStr = decimalValue.toString(10);
-        for (char c : decimalStr.toCharArray()) {
-            result.add(Byte.parseByte(String.valueOf(c)));
-        }
-
+        OperationEvent event = NumberListMetrics.begin(Operation.CHANGE_SCALE);
+        NumberListImpl result = fromDigits(decimalDigits());
+        result.negative = signum() < 0;
+        NumberListMetrics.end(event, size);
         return result;
     }
 
@@ -203,34 +316,656 @@ public class NumberListImpl implements NumberList {
      * @throws ClassCastException if arg is not an instance of NumberListImpl
      */
     public NumberListImpl additionalOperation(NumberList arg) {
-        BigInteger thisDecimal = new BigInteger(this.toDecimalString());
-        BigInteger argDecimal = new BigInteger(((NumberListImpl)arg).toDecimalString());
-        BigInteger resultDecimal = thisDecimal.multiply(argDecimal);
+        NumberListImpl other = (NumberListImpl) arg;
+        OperationEvent event = NumberListMetrics.begin(Operation.MULTIPLY);
+        NumberListImpl result = fromBigInteger(toBigInteger().multiply(other.toBigInteger()), 8);
+        NumberListMetrics.end(event, (long) size + other.size);
+        return result;
+    }
 
-        String resultOctal = resultDecimal.toString(8);
-        NumberListImpl result = new NumberListImpl();
+    /**
+     * Returns the square of this number as a new octal list.
+     * <p>
+     * Squaring uses a dedicated kernel that computes each cross product once, so it
+     * is cheaper than {@code additionalOperation(this)}.
+     * </p>
+     *
+     * @return a new NumberListImpl with the square in octal; never null
+     */
+    public NumberListImpl square() {
+        OperationEvent event = NumberListMetrics.begin(Operation.POWER);
+        BigInteger value = toBigInteger();
+        NumberListImpl result = fromBigInteger(value.multiply(value), 8);
+        NumberListMetrics.end(event, size);
+        return result;
+    }
+
+    /**
+     * Raises this number to the given power by repeated squaring.
+     *
+     * @param exponent the power; must not be negative
+     * @return a new NumberListImpl with the power in octal; {@code 1} for exponent 0
+     * @throws ArithmeticException if exponent is negative
+     */
+    public NumberListImpl pow(int exponent) {
+        OperationEvent event = NumberListMetrics.begin(Operation.POWER);
+        NumberListImpl result = fromBigInteger(toBigInteger().pow(exponent), 8);
+        NumberListMetrics.end(event, size);
+        return result;
+    }
+
+    /**
+     * Computes this number raised to the given power, modulo m.
+     * <p>
+     * Only residues are kept between steps, so the intermediate values never
+     * exceed twice the length of the modulus. Odd moduli use Montgomery
+     * reduction with a sliding window over the exponent bits.
+     * </p>
+     *
+     * @param exponent the power; must not be null
+     * @param m the modulus; must not be null or zero
+     * @return a new NumberListImpl with the residue in octal; never null
+     * @throws NullPointerException if exponent or m is null
+     * @throws ClassCastException if exponent or m is not an instance of NumberListImpl
+     * @throws ArithmeticException if m is zero
+     */
+    public NumberListImpl modPow(NumberList exponent, NumberList m) {
+        NumberListImpl e = (NumberListImpl) exponent;
+        NumberListImpl modulus = (NumberListImpl) m;
+        OperationEvent event = NumberListMetrics.begin(Operation.POWER);
+        NumberListImpl result = fromBigInteger(toBigInteger().modPow(e.toBigInteger(), modulus.toBigInteger()), 8);
+        NumberListMetrics.end(event, (long) size + e.size + modulus.size);
+        return result;
+    }
+
+    /**
+     * Returns the integer quotient of this number and the divisor, rounded down.
+     *
+     * @param divisor the divisor; must not be null or zero
+     * @return a new NumberListImpl with the quotient in octal; never null
+     * @throws NullPointerException if divisor is null
+     * @throws ClassCastException if divisor is not an instance of NumberListImpl
+     * @throws ArithmeticException if divisor is zero
+     * @see #divideAndRemainder(NumberList)
+     */
+    public NumberListImpl divide(NumberList divisor) {
+        return divideAndRemainder(divisor)[0];
+    }
 
-        for (char c : resultOctal.toCharArray()) {
-            result.add(Byte.parseByte(String.valueOf(c)));
+    /**
+     * Returns the remainder of the division of this number by the divisor.
+     * The remainder has the sign of this number, like {@link BigInteger#remainder(BigInteger)}.
+     *
+     * @param divisor the divisor; must not be null or zero
+     * @return a new NumberListImpl with the remainder in octal; never null
+     * @throws NullPointerException if divisor is null
+     * @throws ClassCastException if divisor is not an instance of NumberListImpl
+     * @throws ArithmeticException if divisor is zero
+     * @see #divideAndRemainder(NumberList)
+     */
+    public NumberListImpl remainder(NumberList divisor) {
+        NumberListImpl other = (NumberListImpl) divisor;
+        if (other.isZero()) {
+            throw new ArithmeticException("Division by zero");
+        }
+        OperationEvent event = NumberListMetrics.begin(Operation.DIVIDE);
+        NumberListImpl result;
+        if (other.bitLength() <= SMALL_DIVISOR_BITS) {
+            result = fromBigInteger(BigInteger.valueOf(divideBySmall(other.longValue(), null)), 8);
+            result.negative = signum() < 0;
+        } else {
+            result = fromBigInteger(toBigInteger().remainder(other.toBigInteger()), 8);
         }
+        NumberListMetrics.end(event, (long) size + other.size);
+        return result;
+    }
 
+    /**
+     * Divides this number by the divisor, returning both the quotient and the remainder.
+     * <p>
+     * Divisors of up to {@value #SMALL_DIVISOR_BITS} bits are handled in a single pass
+     * over the octal digits, producing one quotient digit per dividend digit. Larger
+     * divisors use long division, switching to the recursive Burnikel-Ziegler
+     * algorithm once both operands are large.
+     * </p>
+     *
+     * <p>
+     * The quotient is rounded toward zero and the remainder has the sign of this
+     * number, like {@link BigInteger#divideAndRemainder(BigInteger)}.
+     * </p>
+     *
+     * @param divisor the divisor; must not be null or zero
+     * @return a two-element array with the quotient and the remainder, both in octal
+     * @throws NullPointerException if divisor is null
+     * @throws ClassCastException if divisor is not an instance of NumberListImpl
+     * @throws ArithmeticException if divisor is zero
+     */
+    public NumberListImpl[] divideAndRemainder(NumberList divisor) {
+        NumberListImpl other = (NumberListImpl) divisor;
+        if (other.isZero()) {
+            throw new ArithmeticException("Division by zero");
+        }
+        OperationEvent event = NumberListMetrics.begin(Operation.DIVIDE);
+        NumberListImpl[] result;
+        if (other.bitLength() <= SMALL_DIVISOR_BITS) {
+            byte[] quotient = new byte[significantDigits()];
+            long remainder = divideBySmall(other.longValue(), quotient);
+            result = new NumberListImpl[] {
+                    fromDigits(stripLeadingZeros(quotient)),
+                    fromBigInteger(BigInteger.valueOf(remainder), 8)
+            };
+            result[0].negative = signum() * other.signum() < 0;
+            result[1].negative = signum() < 0;
+        } else {
+            BigInteger[] parts = toBigInteger().divideAndRemainder(other.toBigInteger());
+            result = new NumberListImpl[] {fromBigInteger(parts[0], 8), fromBigInteger(parts[1], 8)};
+        }
+        NumberListMetrics.end(event, (long) size + other.size);
         return result;
     }
 
     /**
-     * Converts the octal number stored in this list to its decimal string representation.
+     * Divides the significant digits by a small divisor from the most significant
+     * digit down, storing one quotient digit per digit if quotient is not null.
+     * Returns the remainder.
+     */
+    private long divideBySmall(long divisor, byte[] quotient) {
+        Significance significant = significance();
+        int length = significant.digits;
+        long remainder = 0;
+        Node current = significant.first;
+        for (int i = 0; i < length; i++) {
+            remainder = (remainder << 3) | octalDigit(current.data);
+            if (quotient != null) {
+                quotient[i] = (byte) (remainder / divisor);
+            }
+            remainder %= divisor;
+            current = current.next;
+        }
+        return remainder;
+    }
+
+    /**
+     * Returns the magnitude of this number, which must fit into a {@code long}.
+     */
+    private long longValue() {
+        Significance significant = significance();
+        int length = significant.digits;
+        long value = 0;
+        Node current = significant.first;
+        for (int i = 0; i < length; i++) {
+            value = (value << 3) | octalDigit(current.data);
+            current = current.next;
+        }
+        return value;
+    }
+
+    /**
+     * Converts the octal number stored in this list to its decimal string representation,
+     * preceded by {@code '-'} if the number is negative.
      *
      * @return the decimal string representation of this number; never null
      */
     public String toDecimalString() {
-        if (isEmpty()) return "0";
-        BigInteger decimal = new BigInteger(toString(), 8);
-        return decimal.toString(10);
+        byte[] digits = decimalDigits();
+        int offset = signum() < 0 ? 1 : 0;
+        byte[] chars = new byte[offset + digits.length];
+        if (offset != 0) {
+            chars[0] = '-';
+        }
+        for (int i = 0; i < digits.length; i++) {
+            chars[offset + i] = (byte) ('0' + digits[i]);
+        }
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns the decimal digits of the magnitude of this number, most significant first.
+     * Numbers of at least {@link NumberListTuning#getParallelConversionBits()} bits
+     * are converted in parallel on the common fork-join pool.
+     */
+    private byte[] decimalDigits() {
+        RadixConverter converter = RadixConverter.forRadix(10);
+        int grainBits = NumberListTuning.current().getParallelConversionBits();
+        return bitLength() < grainBits
+                ? converter.toDigits(magnitude())
+                : converter.toDigits(magnitude(), ForkJoinPool.commonPool(), grainBits);
+    }
+
+    /**
+     * Appends the decimal notation of this number to the given appendable, in chunks
+     * as the conversion produces them, without building the whole string.
+     *
+     * @param out the destination; must not be null
+     * @throws IOException if the appendable throws it
+     * @throws NullPointerException if out is null
+     */
+    public void appendDecimalTo(Appendable out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        if (signum() < 0) {
+            out.append('-');
+        }
+        char[] chars = new char[STREAM_CHUNK];
+        try {
+            streamDecimal((digits, from, to) -> {
+                for (int i = from; i < to; i++) {
+                    chars[i - from] = (char) ('0' + digits[i]);
+                }
+                append(out, chars, to - from);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Writes the decimal notation of this number to the given stream as ASCII,
+     * in chunks as the conversion produces them, without building the whole string.
+     * The stream is neither flushed nor closed.
+     *
+     * @param out the destination; must not be null
+     * @throws IOException if writing to the stream fails
+     * @throws NullPointerException if out is null
+     */
+    public void writeDecimalTo(OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        if (signum() < 0) {
+            out.write('-');
+        }
+        try {
+            streamDecimal((digits, from, to) -> {
+                toAscii(digits, from, to);
+                try {
+                    out.write(digits, from, to - from);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Appends the octal notation of this number, the same text {@link #toString()}
+     * returns, to the given appendable in chunks, without building the whole string.
+     *
+     * @param out the destination; must not be null
+     * @throws IOException if the appendable throws it
+     * @throws NullPointerException if out is null
+     */
+    public void appendTo(Appendable out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        if (isEmpty()) {
+            out.append('0');
+            return;
+        }
+        appendDigitsTo(out);
+    }
+
+    /**
+     * Appends the sign and the digits of this non-empty list in chunks.
+     */
+    private void appendDigitsTo(Appendable out) throws IOException {
+        if (signum() < 0) {
+            out.append('-');
+        }
+        char[] chars = new char[Math.min(size, STREAM_CHUNK)];
+        int count = 0;
+        Node current = head;
+        for (int i = 0; i < size; i++) {
+            byte digit = current.data;
+            if (isDigitChar(digit)) {
+                chars[count++] = (char) ('0' + digit);
+            } else {
+                out.append(CharBuffer.wrap(chars, 0, count));
+                out.append(Byte.toString(digit));
+                count = 0;
+            }
+            if (count == chars.length) {
+                out.append(CharBuffer.wrap(chars, 0, count));
+                count = 0;
+            }
+            current = current.next;
+        }
+        out.append(CharBuffer.wrap(chars, 0, count));
+    }
+
+    /**
+     * Writes the octal notation of this number, the same text {@link #toString()}
+     * returns, to the given stream as ASCII in chunks, without building the whole string.
+     * The stream is neither flushed nor closed.
+     *
+     * @param out the destination; must not be null
+     * @throws IOException if writing to the stream fails
+     * @throws NullPointerException if out is null
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        if (isEmpty()) {
+            out.write('0');
+            return;
+        }
+        if (signum() < 0) {
+            out.write('-');
+        }
+        byte[] bytes = new byte[Math.min(size, STREAM_CHUNK)];
+        int count = 0;
+        Node current = head;
+        for (int i = 0; i < size; i++) {
+            byte digit = current.data;
+            if (isDigitChar(digit)) {
+                bytes[count++] = (byte) ('0' + digit);
+            } else {
+                out.write(bytes, 0, count);
+                out.write(Byte.toString(digit).getBytes(StandardCharsets.US_ASCII));
+                count = 0;
+            }
+            if (count == bytes.length) {
+                out.write(bytes, 0, count);
+                count = 0;
+            }
+            current = current.next;
+        }
+        out.write(bytes, 0, count);
+    }
+
+    private static void append(Appendable out, char[] chars, int count) {
+        try {
+            out.append(CharBuffer.wrap(chars, 0, count));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Passes the decimal digits of the magnitude of this number to the given action, most significant
+     * first, as the conversion produces them. The first digits are available long
+     * before the whole conversion of a huge number is finished.
+     * Zero is passed as a single {@code 0} digit.
+     *
+     * @param action the consumer of the digit values, from 0 to 9; must not be null
+     * @throws NullPointerException if action is null
+     */
+    public void forEachDecimalDigit(IntConsumer action) {
+        Objects.requireNonNull(action, "action");
+        streamDecimal((digits, from, to) -> {
+            for (int i = from; i < to; i++) {
+                action.accept(digits[i]);
+            }
+        });
+    }
+
+    /**
+     * Passes the decimal notation of this number to the given sink in chunks of
+     * ASCII characters, most significant first, as the conversion produces them.
+     * Concatenated, the chunks are equal to {@link #toDecimalString()}.
+     * <p>
+     * Each buffer is read-only and is valid only until the sink returns:
+     * its content is overwritten by the next chunk.
+     * </p>
+     *
+     * @param sink the consumer of the chunks; must not be null
+     * @throws NullPointerException if sink is null
+     */
+    public void writeDecimal(Consumer<? super ByteBuffer> sink) {
+        Objects.requireNonNull(sink, "sink");
+        if (signum() < 0) {
+            sink.accept(ByteBuffer.wrap(new byte[] {'-'}).asReadOnlyBuffer());
+        }
+        streamDecimal((digits, from, to) -> {
+            toAscii(digits, from, to);
+            sink.accept(ByteBuffer.wrap(digits, from, to - from).asReadOnlyBuffer());
+        });
+    }
+
+    /**
+     * Converts the magnitude of this number to decimal, passing the digits to the sink in chunks.
+     */
+    private void streamDecimal(RadixConverter.DigitSink sink) {
+        RadixConverter.forRadix(10).convert(magnitude(), sink, STREAM_CHUNK);
+    }
+
+    /**
+     * Replaces digit values in the given range with their ASCII characters.
+     */
+    private static void toAscii(byte[] digits, int from, int to) {
+        for (int i = from; i < to; i++) {
+            digits[i] += '0';
+        }
+    }
+
+    /**
+     * Returns the value of this octal number as a {@link BigInteger}.
+     * The digits are regrouped into the binary magnitude in a single pass, with
+     * no intermediate string; leading zeros are skipped without being read.
+     *
+     * @return the value of this list; {@link BigInteger#ZERO} if the list is empty
+     * @throws NumberFormatException if a digit is not an octal digit
+     */
+    public BigInteger toBigInteger() {
+        return new BigInteger(signum(), toByteArray());
+    }
+
+    /**
+     * Returns the absolute value of this number.
+     */
+    private BigInteger magnitude() {
+        return new BigInteger(1, toByteArray());
+    }
+
+    /**
+     * Creates a new octal list with the value of the given {@link BigInteger}.
+     * The binary magnitude is regrouped into octal digits in a single pass,
+     * with no intermediate string.
+     *
+     * @param value the value; must not be null
+     * @return a new list without leading zeros; a single {@code 0} digit for zero
+     * @throws NullPointerException if value is null
+     */
+    public static NumberListImpl valueOf(BigInteger value) {
+        return fromBigInteger(value, 8);
+    }
+
+    /**
+     * Creates a new list holding the digits of the given non-negative value
+     * written in the given radix. Zero is represented by a single {@code 0} digit.
+     *
+     * @param value the value to convert; must be non-negative
+     * @param radix the radix of the resulting digits, from 2 to 10
+     * @return a new list with one digit of {@code value} per node; never null
+     */
+    static NumberListImpl fromBigInteger(BigInteger value, int radix) {
+        NumberListImpl result = new NumberListImpl();
+        result.appendDigits(value.abs(), radix);
+        result.negative = value.signum() < 0;
+        return result;
+    }
+
+    /**
+     * Fills this empty list with the digits of the given non-negative value written
+     * in the given radix. Octal digits are regrouped from the binary magnitude; other
+     * radixes go through the shared converter. Neither builds an intermediate string.
+     */
+    private void appendDigits(BigInteger value, int radix) {
+        if (radix == 8) {
+            prependOctal(value.toByteArray());
+            return;
+        }
+        for (byte digit : RadixConverter.forRadix(radix).toDigits(value)) {
+            add(digit);
+        }
+    }
+
+    /**
+     * Creates a new list holding the given digits, most significant first.
+     *
+     * @param digits the digits to copy into the list
+     * @return a new list with one digit per node; never null
+     */
+    static NumberListImpl fromDigits(byte[] digits) {
+        NumberListImpl result = new NumberListImpl();
+        for (byte digit : digits) {
+            result.add(digit);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the magnitude of this number as an unsigned big-endian byte array.
+     * <p>
+     * Octal digits are regrouped into bytes in a single pass from the least
+     * significant digit, three bits at a time, with no intermediate BigInteger
+     * or string.
+     * </p>
+     *
+     * @return the minimal unsigned magnitude; an empty array for zero
+     * @throws NumberFormatException if a digit is not an octal digit
+     */
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[(bitLength() + 7) >>> 3];
+        int position = bytes.length;
+        int bits = 0;
+        int accumulator = 0;
+
+        Node current = tail;
+        for (int i = significantDigits(); i > 0; i--) {
+            accumulator |= octalDigit(current.data) << bits;
+            bits += 3;
+            if (bits >= 8) {
+                bytes[--position] = (byte) accumulator;
+                accumulator >>>= 8;
+                bits -= 8;
+            }
+            current = current.prev;
+        }
+        if (position > 0) {
+            bytes[--position] = (byte) accumulator;
+        }
+        return bytes;
+    }
+
+    /**
+     * Creates a new list from an unsigned big-endian byte array, regrouping
+     * the bits into octal digits in a single pass.
+     *
+     * @param bytes the unsigned magnitude; must not be null
+     * @return a new list without leading zeros; a single {@code 0} digit for zero
+     * @throws NullPointerException if bytes is null
+     */
+    public static NumberListImpl fromByteArray(byte[] bytes) {
+        NumberListImpl result = new NumberListImpl();
+        result.prependOctal(bytes);
+        return result;
+    }
+
+    /**
+     * Fills this empty list with the octal digits of an unsigned big-endian magnitude.
+     * <p>
+     * The magnitude is read from its least significant byte, so digits come out
+     * least significant first and each one is linked in front of the head, which
+     * costs the same as appending at the tail. No intermediate digit array is built.
+     * Zero digits are held back until a non-zero digit follows them, so the list gets
+     * no leading zeros; zero is stored as a single {@code 0} digit.
+     * </p>
+     */
+    private void prependOctal(byte[] bytes) {
+        int bits = 0;
+        int accumulator = 0;
+        int pendingZeros = 0;
+
+        for (int i = bytes.length - 1; i >= 0; i--) {
+            accumulator |= (bytes[i] & 0xFF) << bits;
+            bits += 8;
+            while (bits >= 3) {
+                pendingZeros = prependDigit(accumulator & 7, pendingZeros);
+                accumulator >>>= 3;
+                bits -= 3;
+            }
+        }
+        if (bits > 0) {
+            prependDigit(accumulator, pendingZeros);
+        }
+        if (isEmpty()) {
+            add((byte) 0);
+        }
+    }
+
+    /**
+     * Links the digit in front of the head, preceded by the zeros held back so far.
+     * Returns the new number of held back zeros.
+     */
+    private int prependDigit(int digit, int pendingZeros) {
+        if (digit == 0) return pendingZeros + 1;
+
+        for (; pendingZeros > 0; pendingZeros--) {
+            add(0, (byte) 0);
+        }
+        add(0, (byte) digit);
+        return 0;
+    }
+
+    /**
+     * Returns the hexadecimal notation of this number, in lower case and without
+     * leading zeros, preceded by {@code '-'} if the number is negative.
+     * Digits are regrouped into nibbles in a single pass.
+     *
+     * @return the hexadecimal string representation; "0" for zero
+     * @throws NumberFormatException if a digit is not an octal digit
+     */
+    public String toHexString() {
+        char[] hex = new char[Math.max(1, (bitLength() + 3) >>> 2)];
+        int position = hex.length;
+        int bits = 0;
+        int accumulator = 0;
+
+        Node current = tail;
+        for (int i = significantDigits(); i > 0; i--) {
+            accumulator |= octalDigit(current.data) << bits;
+            bits += 3;
+            if (bits >= 4) {
+                hex[--position] = Character.forDigit(accumulator & 15, 16);
+                accumulator >>>= 4;
+                bits -= 4;
+            }
+            current = current.prev;
+        }
+        while (position > 0) {
+            hex[--position] = Character.forDigit(accumulator & 15, 16);
+            accumulator >>>= 4;
+        }
+        return signum() < 0 ? "-" + new String(hex) : new String(hex);
+    }
+
+    /**
+     * Returns the digit as an int, rejecting values that are not octal digits.
+     * Lists accept any byte through the {@link List} methods, so digits are
+     * checked wherever they are regrouped into bits.
+     */
+    private static int octalDigit(byte digit) {
+        if (digit < 0 || digit > 7) {
+            throw new NumberFormatException("Not an octal digit: " + digit);
+        }
+        return digit;
+    }
+
+    /**
+     * Returns the digits without leading zeros, keeping a single zero for zero.
+     */
+    private static byte[] stripLeadingZeros(byte[] digits) {
+        if (digits.length == 0) return new byte[1];
+        int start = 0;
+        while (start < digits.length - 1 && digits[start] == 0) {
+            start++;
+        }
+        return start == 0 ? digits : Arrays.copyOfRange(digits, start, digits.length);
     }
 
     /**
      * Returns the string representation of this number in octal notation.
-     * Each digit in the returned string represents an octal digit.
+     * Each digit in the returned string represents an octal digit; negative
+     * numbers are preceded by {@code '-'}. A digit outside 0-9, which the
+     * {@link List} methods do not reject, is written as its decimal value.
      *
      * @return the octal string representation; "0" if the list is empty
      */
@@ -238,20 +973,214 @@ public class NumberListImpl implements NumberList {
     public String toString() {
         if (isEmpty()) return "0";
 
-        StringBuilder sb = new StringBuilder();
+        int offset = signum() < 0 ? 1 : 0;
+        byte[] chars = new byte[offset + size];
+        if (offset != 0) {
+            chars[0] = '-';
+        }
         Node current = head;
-        do {
-            sb.append(current.data);
+        for (int i = offset; i < chars.length; i++) {
+            if (!isDigitChar(current.data)) {
+                return toStringByDigit();
+            }
+            chars[i] = (byte) ('0' + current.data);
             current = current.next;
-        } while (current != head);
+        }
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
 
+    /**
+     * Builds the string of a list holding digits outside 0-9, writing every digit
+     * as its decimal value.
+     */
+    private String toStringByDigit() {
+        StringBuilder sb = new StringBuilder(size + 8);
+        if (signum() < 0) {
+            sb.append('-');
+        }
+        Node current = head;
+        for (int i = 0; i < size; i++) {
+            sb.append(current.data);
+            current = current.next;
+        }
         return sb.toString();
     }
 
     /**
-     * Compares this NumberListImpl with another object for equality.
-     * Two NumberListImpl objects are equal if they have the same size
-     * and contain the same digits in the same order.
+     * Returns true if the digit is written as a single character.
+     */
+    private static boolean isDigitChar(byte digit) {
+        return digit >= 0 && digit <= 9;
+    }
+
+    /**
+     * Returns true if this list rejects modifications. Read-only lists are
+     * shared results, for example entries of an {@link OperationCache}.
+     *
+     * @return true if every modifying operation throws UnsupportedOperationException
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Makes this list read-only. Every later modifying operation
+     * throws {@link UnsupportedOperationException}.
+     * <p>
+     * Cached values are computed here, so a read-only list published to other
+     * threads is never written to again.
+     * </p>
+     *
+     * @return this list
+     */
+    NumberListImpl makeReadOnly() {
+        hashCode();
+        significantDigits();
+        readOnly = true;
+        return this;
+    }
+
+    /**
+     * Turns the positional index of this list on or off.
+     * <p>
+     * While the index is on, the first positional query after a modification
+     * packs the digits into an array in one pass. Until the next modification,
+     * {@link #get(int)} then reads the array in constant time, and {@link #indexOf(Object)},
+     * {@link #lastIndexOf(Object)} and {@link #contains(Object)} scan it eight digits at
+     * a time instead of following node links. The array is published atomically, so
+     * threads reading an unmodified list share one index. The index pays off for lists
+     * that are queried much more often than modified; it costs one byte per digit.
+     * </p>
+     *
+     * @param indexed true to build the index on demand, false to drop it
+     */
+    public void setIndexed(boolean indexed) {
+        this.indexed = indexed;
+        if (!indexed) {
+            digitIndex = null;
+        }
+    }
+
+    /**
+     * Returns true if positional queries on this list use the packed digit index.
+     *
+     * @return true if the index is on
+     * @see #setIndexed(boolean)
+     */
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    /**
+     * Returns the packed digits if the index is on, rebuilding them if the list
+     * was modified since they were packed; null if the index is off.
+     */
+    private byte[] indexedDigits() {
+        if (!indexed) return null;
+
+        DigitIndex current = digitIndex;
+        if (current == null || current.modCount != modCount) {
+            current = new DigitIndex(packDigits(), modCount);
+            digitIndex = current;
+        }
+        return current.digits;
+    }
+
+    /**
+     * Copies the digits into a new array, most significant first.
+     */
+    private byte[] packDigits() {
+        byte[] digits = new byte[size];
+        Node node = head;
+        for (int i = 0; i < size; i++) {
+            digits[i] = node.data;
+            node = node.next;
+        }
+        return digits;
+    }
+
+    /**
+     * Returns an immutable copy of the current contents of this list.
+     * <p>
+     * The copy is built once per modification of this list: further calls
+     * return the same instance in constant time until the list changes.
+     * The snapshot is not affected by later modifications of this list,
+     * and keeps the sign of a negative number.
+     * </p>
+     *
+     * @return an immutable list with the same digits and sign; never null
+     */
+    public PersistentNumberList snapshot() {
+        PersistentNumberList result = snapshot;
+        if (result == null || snapshotModCount != modCount) {
+            result = PersistentNumberList.fromDigits(packDigits(), signum() < 0);
+            snapshot = result;
+            snapshotModCount = modCount;
+        }
+        return result;
+    }
+
+    /**
+     * Returns an estimate of the heap memory held by this list, in bytes.
+     * <p>
+     * The estimate counts the list object, one node per digit and the caches
+     * the list still references: the packed digit index and the last
+     * {@link #snapshot()}, even if a later modification made them stale.
+     * A snapshot already handed out is counted in full.
+     * </p>
+     *
+     * @return the estimated size of this list
+     * @see #compact()
+     */
+    public long memoryFootprint() {
+        return LIST_FOOTPRINT + size * NODE_FOOTPRINT + cacheFootprint();
+    }
+
+    /**
+     * Drops the caches that can be rebuilt from the digits: the packed digit
+     * index and the cached snapshot. The digits are not changed, and the index,
+     * if it is on, is packed again by the next positional query.
+     * <p>
+     * Every node of the list holds exactly one digit, so there is no spare
+     * capacity to release; removing leading zeros is left to {@link #normalize()},
+     * since it changes the contents of the list.
+     * </p>
+     *
+     * @return the estimated number of bytes released
+     * @see #memoryFootprint()
+     */
+    public long compact() {
+        long released = cacheFootprint();
+        digitIndex = null;
+        snapshot = null;
+        return released;
+    }
+
+    /**
+     * Returns the estimated size of the caches referenced by this list.
+     */
+    private long cacheFootprint() {
+        long bytes = 0;
+        DigitIndex index = digitIndex;
+        if (index != null) {
+            bytes += Footprint.object(Footprint.REFERENCE + 4) + Footprint.byteArray(index.digits.length);
+        }
+        if (snapshot != null) {
+            bytes += snapshot.memoryFootprint();
+        }
+        return bytes;
+    }
+
+    /**
+     * Compares this NumberListImpl with another object for numeric equality.
+     * Two NumberListImpl objects are equal if they represent the same number:
+     * leading zeros are ignored, so {@code [0, 1]} equals {@code [1]}, and the
+     * empty list equals {@code [0]}. Numbers of opposite signs are not equal,
+     * except for zero, which has no sign.
+     * <p>
+     * Lists whose hash codes have already been computed and differ are
+     * rejected without comparing the digits.
+     * </p>
      *
      * @param o the object to compare with
      * @return true if the objects are equal, false otherwise
@@ -262,12 +1191,21 @@ public class NumberListImpl implements NumberList {
         if (!(o instanceof NumberListImpl)) return false;
 
         NumberListImpl that = (NumberListImpl) o;
-        if (size != that.size) return false;
+        Significance thisSignificant = significance();
+        Significance thatSignificant = that.significance();
+        int length = thisSignificant.digits;
+        if (length != thatSignificant.digits) return false;
+        if (length != 0 && negative != that.negative) return false;
 
-        Node thisCurrent = head;
-        Node thatCurrent = that.head;
+        HashCode thisHash = hash;
+        HashCode thatHash = that.hash;
+        if (thisHash != null && thatHash != null && thisHash.modCount == modCount
+                && thatHash.modCount == that.modCount && thisHash.value != thatHash.value) return false;
 
-        for (int i = 0; i < size; i++) {
+        Node thisCurrent = thisSignificant.first;
+        Node thatCurrent = thatSignificant.first;
+
+        for (int i = 0; i < length; i++) {
             if (thisCurrent.data != thatCurrent.data) return false;
             thisCurrent = thisCurrent.next;
             thatCurrent = thatCurrent.next;
@@ -278,13 +1216,207 @@ public class NumberListImpl implements NumberList {
 
     /**
      * Returns the hash code value for this list.
-     * The hash code is computed based on the string representation of the number.
+     * The hash code is computed from the significant digits of the number,
+     * consistently with {@link #equals(Object)}, and cached until the list is modified.
      *
      * @return the hash code value for this list
      */
     @Override
     public int hashCode() {
-        return Objects.hash(toString());
+        HashCode current = hash;
+        if (current == null || current.modCount != modCount) {
+            Significance significant = significance();
+            int h = 1;
+            Node node = significant.first;
+            for (int i = 0; i < significant.digits; i++) {
+                h = 31 * h + node.data;
+                node = node.next;
+            }
+            current = new HashCode(significant.digits != 0 && negative ? -h : h, modCount);
+            hash = current;
+        }
+        return current.value;
+    }
+
+    /**
+     * Compares the numeric values of this list and another one.
+     * Both lists are read as octal numbers; leading zeros are ignored,
+     * and an empty list is equal to zero. Negative numbers are less than all
+     * others; the sign of a {@link PersistentNumberList} is taken into account,
+     * and lists of other types have no sign and are never negative.
+     * The ordering is consistent with {@link #equals(Object)}.
+     * <p>
+     * Numbers with more significant digits are greater, so only lists with
+     * the same number of significant digits are compared digit by digit.
+     * </p>
+     *
+     * @param o the list to compare with; must not be null
+     * @return a negative number, zero or a positive number if this number is
+     *         less than, equal to or greater than the other one
+     * @throws NullPointerException if o is null
+     */
+    @Override
+    public int compareTo(NumberList o) {
+        if (o instanceof NumberListImpl) {
+            return compareTo((NumberListImpl) o);
+        }
+        if (o instanceof PersistentNumberList) {
+            return -((PersistentNumberList) o).compareTo(this);
+        }
+        if (signum() < 0) return -1;
+
+        int thatZeros = 0;
+        for (Byte digit : o) {
+            if (digit != 0) break;
+            thatZeros++;
+        }
+        Significance significant = significance();
+        int length = significant.digits;
+        int thatLength = o.size() - thatZeros;
+        if (length != thatLength) {
+            return length < thatLength ? -1 : 1;
+        }
+
+        Iterator<Byte> those = o.iterator();
+        for (int i = 0; i < thatZeros; i++) those.next();
+
+        Node current = significant.first;
+        for (int i = 0; i < length; i++) {
+            int diff = current.data - those.next();
+            if (diff != 0) return diff < 0 ? -1 : 1;
+            current = current.next;
+        }
+        return 0;
+    }
+
+    private int compareTo(NumberListImpl that) {
+        int sign = signum();
+        int thatSign = that.signum();
+        if (sign != thatSign) {
+            return sign < thatSign ? -1 : 1;
+        }
+        return sign < 0 ? -compareMagnitude(that) : compareMagnitude(that);
+    }
+
+    private int compareMagnitude(NumberListImpl that) {
+        Significance thisSignificant = significance();
+        Significance thatSignificant = that.significance();
+        int length = thisSignificant.digits;
+        int thatLength = thatSignificant.digits;
+        if (length != thatLength) {
+            return length < thatLength ? -1 : 1;
+        }
+
+        Node thisCurrent = thisSignificant.first;
+        Node thatCurrent = thatSignificant.first;
+        for (int i = 0; i < length; i++) {
+            int diff = thisCurrent.data - thatCurrent.data;
+            if (diff != 0) return diff < 0 ? -1 : 1;
+            thisCurrent = thisCurrent.next;
+            thatCurrent = thatCurrent.next;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns true if this list represents zero, that is, if it is empty
+     * or contains only zero digits. The check is constant-time while the
+     * list is not modified.
+     *
+     * @return true if the value of this number is zero
+     */
+    public boolean isZero() {
+        return significantDigits() == 0;
+    }
+
+    /**
+     * Returns the sign of this number.
+     *
+     * @return -1, 0 or 1 if the number is negative, zero or positive
+     */
+    public int signum() {
+        if (significantDigits() == 0) return 0;
+        return negative ? -1 : 1;
+    }
+
+    /**
+     * Returns true if this number is less than zero.
+     *
+     * @return true if the number is negative
+     */
+    public boolean isNegative() {
+        return signum() < 0;
+    }
+
+    /**
+     * Sets the sign of this number, leaving the digits unchanged.
+     * Zero has no sign: a negative zero is equal to zero and prints as zero.
+     *
+     * @param negative true to make the number negative, false to make it non-negative
+     * @throws UnsupportedOperationException if this list is read-only
+     */
+    public void setNegative(boolean negative) {
+        checkWritable();
+        if (this.negative != negative) {
+            this.negative = negative;
+            modCount++;
+        }
+    }
+
+    /**
+     * Returns the number of bits in the minimal binary representation of the
+     * magnitude of this number, the same value as {@link BigInteger#bitLength()}
+     * of the absolute value.
+     * The value is constant-time while the list is not modified.
+     *
+     * @return the bit length of the number; 0 for zero
+     * @throws NumberFormatException if the most significant digit is not an octal digit
+     */
+    public int bitLength() {
+        Significance significant = significance();
+        int length = significant.digits;
+        if (length == 0) return 0;
+        return 3 * (length - 1) + 32 - Integer.numberOfLeadingZeros(octalDigit(significant.first.data));
+    }
+
+    /**
+     * Removes leading zero digits from this list, leaving the canonical
+     * representation of the number. A number equal to zero is left as a
+     * single {@code 0} digit; an empty list stays empty.
+     */
+    public void normalize() {
+        Significance significant = significance();
+        int remove = significant.digits == 0 ? size - 1 : significant.zeros;
+        for (int i = 0; i < remove; i++) {
+            removeNode(head);
+        }
+    }
+
+    /**
+     * Returns the number of digits following the leading zeros.
+     */
+    private int significantDigits() {
+        return significance().digits;
+    }
+
+    /**
+     * Returns the leading zeros of the list, counting them once per modification.
+     * Threads reading an unmodified list either see a complete holder or count
+     * the zeros themselves; they never see a partly written cache.
+     */
+    private Significance significance() {
+        Significance current = significance;
+        if (current == null || current.modCount != modCount) {
+            int count = 0;
+            Node node = head;
+            while (count < size && node.data == 0) {
+                node = node.next;
+                count++;
+            }
+            current = new Significance(count, size - count, count < size ? node : null, modCount);
+            significance = current;
+        }
+        return current;
     }
 
     /**
@@ -318,6 +1450,9 @@ public class NumberListImpl implements NumberList {
         if (!(o instanceof Byte)) return false;
 
         byte value = (Byte) o;
+        byte[] digits = indexedDigits();
+        if (digits != null) return DigitScan.indexOf(digits, 0, size, value) >= 0;
+
         Node current = head;
 
         for (int i = 0; i < size; i++) {
@@ -328,6 +1463,30 @@ public class NumberListImpl implements NumberList {
         return false;
     }
 
+    /**
+     * Counts the occurrences of every octal digit in this list in a single pass,
+     * over the packed index if it is on and over the nodes otherwise.
+     *
+     * @return an array of 8 elements where element {@code d} is the number of digits equal to {@code d}
+     */
+    public int[] digitHistogram() {
+        int[] counts = new int[8];
+        byte[] digits = indexedDigits();
+        if (digits != null) {
+            DigitScan.histogram(digits, 0, size, counts);
+            return counts;
+        }
+        Node current = head;
+        for (int i = 0; i < size; i++) {
+            int digit = current.data;
+            if (digit >= 0 && digit < counts.length) {
+                counts[digit]++;
+            }
+            current = current.next;
+        }
+        return counts;
+    }
+
     /**
      * Returns an iterator over the elements in this list in proper sequence.
      * The iterator traverses from head to tail.
@@ -523,9 +1682,12 @@ public class NumberListImpl implements NumberList {
      */
     @Override
     public void clear() {
+        checkWritable();
         head = null;
         tail = null;
         size = 0;
+        negative = false;
+        modCount++;
     }
 
     /**
@@ -538,7 +1700,8 @@ public class NumberListImpl implements NumberList {
     @Override
     public Byte get(int index) {
         checkIndex(index);
-        return getNode(index).data;
+        byte[] digits = indexedDigits();
+        return digits != null ? digits[index] : getNode(index).data;
     }
 
     /**
@@ -551,10 +1714,12 @@ public class NumberListImpl implements NumberList {
      */
     @Override
     public Byte set(int index, Byte element) {
+        checkWritable();
         checkIndex(index);
         Node node = getNode(index);
         byte oldValue = node.data;
         node.data = element;
+        modCount++;
         return oldValue;
     }
 
@@ -569,6 +1734,7 @@ public class NumberListImpl implements NumberList {
      */
     @Override
     public void add(int index, Byte element) {
+        checkWritable();
         checkIndexForAdd(index);
         Node newNode = new Node(element);
 
@@ -599,6 +1765,7 @@ public class NumberListImpl implements NumberList {
         }
 
         size++;
+        modCount++;
     }
 
     /**
@@ -629,6 +1796,9 @@ public class NumberListImpl implements NumberList {
         if (!(o instanceof Byte)) return -1;
 
         byte value = (Byte) o;
+        byte[] digits = indexedDigits();
+        if (digits != null) return DigitScan.indexOf(digits, 0, size, value);
+
         Node current = head;
 
         for (int i = 0; i < size; i++) {
@@ -651,6 +1821,9 @@ public class NumberListImpl implements NumberList {
         if (!(o instanceof Byte)) return -1;
 
         byte value = (Byte) o;
+        byte[] digits = indexedDigits();
+        if (digits != null) return DigitScan.lastIndexOf(digits, 0, size, value);
+
         Node current = tail;
 
         for (int i = size - 1; i >= 0; i--) {
@@ -745,12 +1918,15 @@ public class NumberListImpl implements NumberList {
 
             @Override
             public void set(Byte b) {
+                checkWritable();
                 if (lastReturned == null) throw new IllegalStateException();
                 lastReturned.data = b;
+                modCount++;
             }
 
             @Override
             public void add(Byte b) {
+                checkWritable();
                 lastReturned = null;
                 Node newNode = new Node(b);
 
@@ -783,6 +1959,7 @@ public class NumberListImpl implements NumberList {
                 }
 
                 size++;
+                modCount++;
                 nextIndex++;
                 expectedModCount++;
             }
@@ -824,6 +2001,7 @@ public class NumberListImpl implements NumberList {
      */
     @Override
     public boolean swap(int index1, int index2) {
+        checkWritable();
         if (index1 < 0 || index1 >= size || index2 < 0 || index2 >= size) {
             return false;
         }
@@ -836,6 +2014,7 @@ public class NumberListImpl implements NumberList {
         byte temp = node1.data;
         node1.data = node2.data;
         node2.data = temp;
+        modCount++;
 
         return true;
     }
@@ -846,6 +2025,7 @@ public class NumberListImpl implements NumberList {
      */
     @Override
     public void sortAscending() {
+        checkWritable();
         if (size <= 1) return;
 
         byte[] array = new byte[size];
@@ -863,6 +2043,7 @@ public class NumberListImpl implements NumberList {
             current.data = array[i];
             current = current.next;
         }
+        modCount++;
     }
 
     /**
@@ -871,6 +2052,7 @@ public class NumberListImpl implements NumberList {
      */
     @Override
     public void sortDescending() {
+        checkWritable();
         if (size <= 1) return;
 
         byte[] array = new byte[size];
@@ -894,6 +2076,7 @@ public class NumberListImpl implements NumberList {
             current.data = array[i];
             current = current.next;
         }
+        modCount++;
     }
 
     /**
@@ -905,9 +2088,11 @@ public class NumberListImpl implements NumberList {
      */
     @Override
     public void shiftLeft() {
+        checkWritable();
         if (size > 1) {
             head = head.next;
             tail = tail.next;
+            modCount++;
         }
     }
 
@@ -920,9 +2105,11 @@ public class NumberListImpl implements NumberList {
      */
     @Override
     public void shiftRight() {
+        checkWritable();
         if (size > 1) {
             head = head.prev;
             tail = tail.prev;
+            modCount++;
         }
     }
 
@@ -937,6 +2124,7 @@ public class NumberListImpl implements NumberList {
      */
     private Node getNode(int index) {
         checkIndex(index);
+        NumberListMetrics.recordHops(Math.min(index, size - 1 - index));
 
         if (index < size / 2) {
             Node current = head;
@@ -960,6 +2148,7 @@ public class NumberListImpl implements NumberList {
      * @param node the node to remove
      */
     private void removeNode(Node node) {
+        checkWritable();
         if (size == 1) {
             head = null;
             tail = null;
@@ -975,6 +2164,7 @@ public class NumberListImpl implements NumberList {
             }
         }
         size--;
+        modCount++;
     }
 
     /**
@@ -989,6 +2179,17 @@ public class NumberListImpl implements NumberList {
         }
     }
 
+    /**
+     * Checks that this list may be modified.
+     *
+     * @throws UnsupportedOperationException if the list is read-only
+     */
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("List is read-only");
+        }
+    }
+
     private void checkIndexForAdd(int index) {
         if (index < 0 || index > size) {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
@@ -0,0 +1,329 @@
+package ua.kpi.comsys.test2.implementation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in instrumentation of {@link NumberListImpl}.
+ * <p>
+ * Collects counters, processed sizes and latency histograms of list construction,
+ * index-based node lookups, multiplication, radix conversion and file I/O.
+ * Collection is off by default and is turned on with the
+ * {@value #ENABLED_PROPERTY} system property or {@link #setEnabled(boolean)}.
+ * While it is off, every hook costs a single read of a volatile flag.
+ * </p>
+ *
+ * <p>
+ * When enabled, the metrics are exposed as the {@value #OBJECT_NAME} MBean, and every
+ * timed operation is also emitted as a {@code ua.kpi.comsys.test2.NumberListOperation}
+ * JFR event, recorded whenever a flight recording has that event enabled.
+ * </p>
+ *
+ * <p>
+ * The tracked footprint is a gauge rather than a rate: caches such as
+ * {@link OperationCache} report the estimated bytes they retain whether or not
+ * collection is enabled, and {@link #reset()} leaves it unchanged.
+ * </p>
+ *
+ * @author Butkevych Yevhenii
+ * @version 1.0
+ */
+public final class NumberListMetrics implements NumberListMetricsMBean {
+
+    /** System property enabling collection at startup */
+    public static final String ENABLED_PROPERTY = "numberlist.metrics";
+
+    /** Name of the registered MBean */
+    public static final String OBJECT_NAME = "ua.kpi.comsys.test2:type=NumberListMetrics";
+
+    /**
+     * Instrumented operations.
+     */
+    public enum Operation {
+        /** Construction of a list from a decimal string */
+        CONSTRUCT,
+        /** Index-based node lookup; the size is the number of followed links */
+        GET_NODE,
+        /** Multiplication of two lists; the size is the total number of operand digits */
+        MULTIPLY,
+        /** Squaring, raising to a power or modular exponentiation; the size is the total number of operand digits */
+        POWER,
+        /** Division with quotient, remainder or both; the size is the total number of operand digits */
+        DIVIDE,
+        /** Conversion to the additional radix */
+        CHANGE_SCALE,
+        /** Loading a list from a file */
+        LOAD,
+        /** Saving a list to a file */
+        SAVE
+    }
+
+    /**
+     * JFR event describing a single timed operation.
+     */
+    @Name("ua.kpi.comsys.test2.NumberListOperation")
+    @Label("NumberList Operation")
+    @Category("NumberList")
+    @Description("Timed operation on a NumberListImpl")
+    static final class OperationEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Digits")
+        long digits;
+
+        /** The operation as a constant; not recorded by JFR */
+        transient Operation kind;
+
+        /** Start of the operation, for the histograms; not recorded by JFR */
+        transient long startNanos;
+    }
+
+    /**
+     * Counter, size sum and power-of-two latency histogram of one operation.
+     */
+    private static final class Stats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder size = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final AtomicLongArray buckets = new AtomicLongArray(64);
+
+        void record(long size, long nanos) {
+            count.increment();
+            this.size.add(size);
+            if (nanos >= 0) {
+                this.nanos.add(nanos);
+                buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(nanos));
+            }
+        }
+
+        long quantile(double quantile) {
+            long total = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                total += buckets.get(i);
+            }
+            long rank = (long) Math.ceil(quantile * total);
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                seen += buckets.get(i);
+                if (seen >= rank && seen > 0) {
+                    return i == 0 ? 0 : 1L << Math.min(i, 62);
+                }
+            }
+            return 0;
+        }
+
+        void reset() {
+            count.reset();
+            size.reset();
+            nanos.reset();
+            for (int i = 0; i < buckets.length(); i++) {
+                buckets.set(i, 0);
+            }
+        }
+    }
+
+    private static final NumberListMetrics INSTANCE = new NumberListMetrics();
+
+    /** Whether hooks record anything */
+    private static volatile boolean enabled;
+
+    /** Whether the MBean has been registered */
+    private static boolean registered;
+
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+
+    /** Estimated bytes retained by tracking caches */
+    private final LongAdder footprint = new LongAdder();
+
+    static {
+        if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+            INSTANCE.setEnabled(true);
+        }
+    }
+
+    private NumberListMetrics() {
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    /**
+     * Returns the metrics instance, which is also the registered MBean.
+     *
+     * @return the shared metrics; never null
+     */
+    public static NumberListMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        if (enabled) {
+            register();
+        }
+        NumberListMetrics.enabled = enabled;
+    }
+
+    /**
+     * Returns the number of times the given operation was performed.
+     *
+     * @param operation the operation
+     * @return the number of recorded operations
+     */
+    public long getCount(Operation operation) {
+        return stats.get(operation).count.sum();
+    }
+
+    /**
+     * Returns the total number of digits processed by the given operation.
+     *
+     * @param operation the operation
+     * @return the sum of the recorded sizes
+     */
+    public long getTotalSize(Operation operation) {
+        return stats.get(operation).size.sum();
+    }
+
+    /**
+     * Returns the mean latency of the given operation.
+     *
+     * @param operation the operation
+     * @return the mean latency in nanoseconds, 0 if nothing was recorded
+     */
+    public double getMeanLatency(Operation operation) {
+        Stats s = stats.get(operation);
+        long count = s.count.sum();
+        return count == 0 ? 0 : (double) s.nanos.sum() / count;
+    }
+
+    /**
+     * Returns an upper bound of the given latency quantile of the operation.
+     *
+     * @param operation the operation
+     * @param quantile the quantile, from 0 to 1
+     * @return the quantile in nanoseconds, rounded up to a power of two
+     */
+    public long getLatencyQuantile(Operation operation, double quantile) {
+        return stats.get(operation).quantile(quantile);
+    }
+
+    @Override
+    public long getCount(String operation) {
+        return getCount(Operation.valueOf(operation));
+    }
+
+    @Override
+    public long getTotalSize(String operation) {
+        return getTotalSize(Operation.valueOf(operation));
+    }
+
+    @Override
+    public double getMeanLatency(String operation) {
+        return getMeanLatency(Operation.valueOf(operation));
+    }
+
+    @Override
+    public long getLatencyQuantile(String operation, double quantile) {
+        return getLatencyQuantile(Operation.valueOf(operation), quantile);
+    }
+
+    @Override
+    public long getConstructions() {
+        return getCount(Operation.CONSTRUCT);
+    }
+
+    @Override
+    public long getNodeHops() {
+        return getTotalSize(Operation.GET_NODE);
+    }
+
+    @Override
+    public long getTrackedFootprint() {
+        return footprint.sum();
+    }
+
+    @Override
+    public void reset() {
+        for (Stats s : stats.values()) {
+            s.reset();
+        }
+    }
+
+    /**
+     * Starts timing an operation.
+     *
+     * @param operation the operation being started
+     * @return the event to pass to {@link #end}, or null if metrics are disabled
+     */
+    static OperationEvent begin(Operation operation) {
+        if (!enabled) return null;
+        OperationEvent event = new OperationEvent();
+        event.kind = operation;
+        event.operation = operation.name();
+        event.startNanos = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finishes timing an operation started by {@link #begin}.
+     *
+     * @param event the event returned by {@link #begin}; null is ignored
+     * @param digits the number of digits processed by the operation
+     */
+    static void end(OperationEvent event, long digits) {
+        if (event == null) return;
+        event.end();
+        event.digits = digits;
+        INSTANCE.stats.get(event.kind).record(digits, System.nanoTime() - event.startNanos);
+        if (event.shouldCommit()) {
+            event.commit();
+        }
+    }
+
+    /**
+     * Records an index-based node lookup. Lookups are not timed.
+     *
+     * @param hops the number of links followed
+     */
+    static void recordHops(int hops) {
+        if (!enabled) return;
+        INSTANCE.stats.get(Operation.GET_NODE).record(hops, -1);
+    }
+
+    /**
+     * Adjusts the tracked footprint. Called by caches when they retain or release lists.
+     *
+     * @param bytes the estimated number of bytes retained, negative if released
+     */
+    static void trackFootprint(long bytes) {
+        INSTANCE.footprint.add(bytes);
+    }
+
+    private static synchronized void register() {
+        if (registered) return;
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            // Another copy of the class already owns the name; metrics still work locally
+        }
+        registered = true;
+    }
+}
@@ -0,0 +1,91 @@
+package ua.kpi.comsys.test2.implementation;
+
+/**
+ * JMX management interface of {@link NumberListMetrics}.
+ * <p>
+ * Registered with the platform MBean server under
+ * {@value NumberListMetrics#OBJECT_NAME} once metrics are enabled.
+ * Latency values are in nanoseconds.
+ * </p>
+ *
+ * @author Butkevych Yevhenii
+ * @version 1.0
+ */
+public interface NumberListMetricsMBean {
+
+    /**
+     * Returns whether metrics are being collected.
+     *
+     * @return true if collection is enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Turns metrics collection on or off.
+     *
+     * @param enabled true to start collecting, false to stop
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the number of times the given operation was performed.
+     *
+     * @param operation the name of a {@link NumberListMetrics.Operation} constant
+     * @return the number of recorded operations
+     */
+    long getCount(String operation);
+
+    /**
+     * Returns the total number of digits processed by the given operation.
+     * For {@code GET_NODE} this is the total number of traversed links.
+     *
+     * @param operation the name of a {@link NumberListMetrics.Operation} constant
+     * @return the sum of the recorded sizes
+     */
+    long getTotalSize(String operation);
+
+    /**
+     * Returns the mean latency of the given operation.
+     *
+     * @param operation the name of a {@link NumberListMetrics.Operation} constant
+     * @return the mean latency in nanoseconds, 0 if nothing was recorded
+     */
+    double getMeanLatency(String operation);
+
+    /**
+     * Returns an upper bound of the given latency quantile of the operation.
+     *
+     * @param operation the name of a {@link NumberListMetrics.Operation} constant
+     * @param quantile the quantile, from 0 to 1
+     * @return the quantile in nanoseconds, rounded up to a power of two
+     */
+    long getLatencyQuantile(String operation, double quantile);
+
+    /**
+     * Returns the number of constructed lists.
+     *
+     * @return the count of {@code CONSTRUCT} operations
+     */
+    long getConstructions();
+
+    /**
+     * Returns the total number of links followed by index-based node lookups.
+     *
+     * @return the total size of {@code GET_NODE} operations
+     */
+    long getNodeHops();
+
+    /**
+     * Returns the estimated heap memory retained by caches of lists,
+     * such as {@link OperationCache}. Maintained even while collection is disabled.
+     *
+     * @return the sum of the footprints of the cached lists, in bytes
+     * @see NumberListImpl#memoryFootprint()
+     */
+    long getTrackedFootprint();
+
+    /**
+     * Clears all collected values. The tracked footprint is kept.
+     */
+    void reset();
+}
@@ -0,0 +1,276 @@
+package ua.kpi.comsys.test2.implementation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Size thresholds at which {@link NumberListImpl} switches between algorithms.
+ * <p>
+ * The crossover points depend on the host, so they are not fixed in code. On first
+ * use the thresholds are loaded from, in increasing order of priority:
+ * </p>
+ * <ol>
+ *     <li>the built-in defaults;</li>
+ *     <li>the profile file named by the {@value #PROFILE_PROPERTY} system property,
+ *     {@code ~/.numberlist/tuning.properties} by default;</li>
+ *     <li>system properties with the same keys as the profile.</li>
+ * </ol>
+ *
+ * <p>
+ * If the {@value #CALIBRATE_PROPERTY} system property is {@code true} and the profile
+ * file does not exist yet, {@link #calibrate()} is run first and its result is saved to
+ * the profile, so the measurement is done once per host. Missing, unreadable or
+ * malformed values are ignored and the lower-priority value is used instead.
+ * </p>
+ *
+ * <p>
+ * Instances are immutable. The thresholds in effect are read on every operation,
+ * so {@link #setCurrent(NumberListTuning)} takes effect immediately.
+ * </p>
+ *
+ * @author Butkevych Yevhenii
+ * @version 1.0
+ */
+public final class NumberListTuning {
+
+    /** System property with the path of the profile file */
+    public static final String PROFILE_PROPERTY = "numberlist.tuning.profile";
+
+    /** System property enabling calibration when the profile file does not exist */
+    public static final String CALIBRATE_PROPERTY = "numberlist.tuning.calibrate";
+
+    /** Key of the bit length from which radix conversion is split into parallel tasks */
+    public static final String PARALLEL_CONVERSION_BITS = "numberlist.parallelConversionBits";
+
+    /** Key of the minimal bit size of the products multiplied by a single task */
+    public static final String PRODUCT_GRAIN_BITS = "numberlist.productGrainBits";
+
+    static final int DEFAULT_PARALLEL_CONVERSION_BITS = 1 << 16;
+    static final int DEFAULT_PRODUCT_GRAIN_BITS = 1 << 15;
+
+    /** The thresholds in effect */
+    private static volatile NumberListTuning current;
+
+    /** Bit length from which radix conversion is split into parallel tasks */
+    private final int parallelConversionBits;
+
+    /** Minimal total bit size of the operands multiplied by a single task */
+    private final int productGrainBits;
+
+    /**
+     * Creates a set of thresholds.
+     *
+     * @param parallelConversionBits the bit length from which radix conversion runs in parallel
+     * @param productGrainBits the minimal bit size of the products multiplied by a single task
+     * @throws IllegalArgumentException if a threshold is not positive
+     */
+    public NumberListTuning(int parallelConversionBits, int productGrainBits) {
+        if (parallelConversionBits <= 0 || productGrainBits <= 0) {
+            throw new IllegalArgumentException("Thresholds must be positive: "
+                    + parallelConversionBits + ", " + productGrainBits);
+        }
+        this.parallelConversionBits = parallelConversionBits;
+        this.productGrainBits = productGrainBits;
+    }
+
+    /**
+     * Returns the thresholds in effect, loading them on first use.
+     *
+     * @return the current thresholds; never null
+     */
+    public static NumberListTuning current() {
+        NumberListTuning tuning = current;
+        if (tuning == null) {
+            synchronized (NumberListTuning.class) {
+                tuning = current;
+                if (tuning == null) {
+                    tuning = load();
+                    current = tuning;
+                }
+            }
+        }
+        return tuning;
+    }
+
+    /**
+     * Replaces the thresholds in effect.
+     *
+     * @param tuning the new thresholds; must not be null
+     * @throws NullPointerException if tuning is null
+     */
+    public static void setCurrent(NumberListTuning tuning) {
+        if (tuning == null) {
+            throw new NullPointerException("tuning");
+        }
+        current = tuning;
+    }
+
+    /**
+     * Loads the thresholds from the profile file and the system properties,
+     * calibrating first if requested and the profile does not exist.
+     *
+     * @return the loaded thresholds; never null
+     */
+    public static NumberListTuning load() {
+        Path profile = profilePath();
+        if (Boolean.getBoolean(CALIBRATE_PROPERTY) && !Files.exists(profile)) {
+            try {
+                calibrate().save(profile);
+            } catch (IOException e) {
+                // The profile is only a cache; the thresholds are measured again next time
+            }
+        }
+        return load(System.getProperties(), profile);
+    }
+
+    /**
+     * Loads the thresholds from the profile file, overridden by the given properties.
+     */
+    static NumberListTuning load(Properties overrides, Path profile) {
+        Properties values = new Properties();
+        if (Files.isRegularFile(profile)) {
+            try (InputStream in = Files.newInputStream(profile)) {
+                values.load(in);
+            } catch (IOException | IllegalArgumentException e) {
+                values.clear();
+            }
+        }
+        return new NumberListTuning(
+                threshold(overrides, values, PARALLEL_CONVERSION_BITS, DEFAULT_PARALLEL_CONVERSION_BITS),
+                threshold(overrides, values, PRODUCT_GRAIN_BITS, DEFAULT_PRODUCT_GRAIN_BITS));
+    }
+
+    /**
+     * Returns the path of the profile file.
+     *
+     * @return the value of {@value #PROFILE_PROPERTY}, or {@code ~/.numberlist/tuning.properties}
+     */
+    public static Path profilePath() {
+        String path = System.getProperty(PROFILE_PROPERTY);
+        return path != null
+                ? Paths.get(path)
+                : Paths.get(System.getProperty("user.home"), ".numberlist", "tuning.properties");
+    }
+
+    /**
+     * Measures the thresholds on the current host. Every candidate threshold is
+     * timed on a fixed workload and the fastest is kept. Takes about a second.
+     *
+     * @return the measured thresholds; never null
+     */
+    public static NumberListTuning calibrate() {
+        Random random = new Random(42);
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        BigInteger value = new BigInteger(1 << 19, random);
+        RadixConverter converter = RadixConverter.forRadix(10);
+        int conversion = fastest(1 << 12, 1 << 19, grain -> converter.toDigits(value, pool, grain));
+
+        List<BigInteger> factors = new ArrayList<>();
+        for (int i = 0; i < 512; i++) {
+            factors.add(new BigInteger(256, random));
+        }
+        int product = fastest(1 << 10, 1 << 18, grain -> new ProductTree(factors, pool, grain).root());
+
+        return new NumberListTuning(conversion, product);
+    }
+
+    /**
+     * Writes the thresholds to a properties file, creating its directory if needed.
+     *
+     * @param profile the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path profile) throws IOException {
+        Properties values = new Properties();
+        values.setProperty(PARALLEL_CONVERSION_BITS, Integer.toString(parallelConversionBits));
+        values.setProperty(PRODUCT_GRAIN_BITS, Integer.toString(productGrainBits));
+
+        Path parent = profile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(profile)) {
+            values.store(out, "NumberListImpl thresholds");
+        }
+    }
+
+    /**
+     * Returns the bit length from which radix conversion is split into parallel tasks.
+     *
+     * @return the threshold in bits
+     */
+    public int getParallelConversionBits() {
+        return parallelConversionBits;
+    }
+
+    /**
+     * Returns the minimal total bit size of the operands multiplied by a single
+     * task of a product tree; smaller products are grouped together.
+     *
+     * @return the threshold in bits
+     */
+    public int getProductGrainBits() {
+        return productGrainBits;
+    }
+
+    @Override
+    public String toString() {
+        return PARALLEL_CONVERSION_BITS + "=" + parallelConversionBits + ", "
+                + PRODUCT_GRAIN_BITS + "=" + productGrainBits;
+    }
+
+    private static int threshold(Properties overrides, Properties profile, String key, int defaultValue) {
+        int value = parse(profile.getProperty(key), defaultValue);
+        return parse(overrides.getProperty(key), value);
+    }
+
+    private static int parse(String value, int defaultValue) {
+        if (value == null) return defaultValue;
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Workload timed for a single candidate threshold.
+     */
+    private interface Workload {
+        void run(int threshold);
+    }
+
+    /**
+     * Returns the power of two in [from, to] with the shortest best-of-three time.
+     */
+    private static int fastest(int from, int to, Workload workload) {
+        workload.run(to);
+
+        int best = to;
+        long bestNanos = Long.MAX_VALUE;
+        for (int threshold = to; threshold >= from; threshold >>= 1) {
+            for (int round = 0; round < 3; round++) {
+                long start = System.nanoTime();
+                workload.run(threshold);
+                long nanos = System.nanoTime() - start;
+                if (nanos < bestNanos) {
+                    bestNanos = nanos;
+                    best = threshold;
+                }
+            }
+        }
+        return best;
+    }
+}
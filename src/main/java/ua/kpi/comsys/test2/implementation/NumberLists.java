@@ -0,0 +1,129 @@
+package ua.kpi.comsys.test2.implementation;
+
+import ua.kpi.comsys.test2.NumberList;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Batch operations over many {@link NumberList} values.
+ * <p>
+ * Folding thousands of factors with {@link NumberListImpl#additionalOperation(NumberList)}
+ * multiplies an ever-growing accumulator by small factors, which is quadratic in the
+ * size of the result. {@link #product(Collection)} multiplies the factors as a balanced
+ * product tree instead and computes independent products in parallel.
+ * {@link #changeScale(Collection)} converts many numbers at once, sharing a single
+ * table of radix powers between all of them.
+ * </p>
+ *
+ * <p>
+ * Methods without an executor argument use {@link ForkJoinPool#commonPool()}.
+ * </p>
+ *
+ * @author Butkevych Yevhenii
+ * @version 1.0
+ */
+public final class NumberLists {
+
+    private NumberLists() {
+    }
+
+    /**
+     * Multiplies all given numbers using the common fork-join pool.
+     *
+     * @param factors the numbers to multiply; must not be null or contain nulls
+     * @return a new octal NumberListImpl holding the product; "1" if there are no factors
+     * @throws NullPointerException if factors is null or contains null
+     * @throws ClassCastException if a factor is not an instance of NumberListImpl
+     * @see #product(Collection, Executor)
+     */
+    public static NumberListImpl product(Collection<? extends NumberList> factors) {
+        return product(factors, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Multiplies all given numbers as a balanced product tree.
+     * Products on the same level of the tree are computed on the given executor.
+     * The factors remain unchanged.
+     *
+     * @param factors the numbers to multiply; must not be null or contain nulls
+     * @param executor the executor running the multiplications; must not be null
+     * @return a new octal NumberListImpl holding the product; "1" if there are no factors
+     * @throws NullPointerException if any argument is null or factors contains null
+     * @throws ClassCastException if a factor is not an instance of NumberListImpl
+     */
+    public static NumberListImpl product(Collection<? extends NumberList> factors, Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        List<BigInteger> values = values(factors);
+        if (values.isEmpty()) {
+            return NumberListImpl.fromBigInteger(BigInteger.ONE, 8);
+        }
+        return NumberListImpl.fromBigInteger(new ProductTree(values, executor).root(), 8);
+    }
+
+    /**
+     * Converts all given numbers to decimal using the common fork-join pool.
+     *
+     * @param numbers the numbers to convert; must not be null or contain nulls
+     * @return the decimal representations, in the order of the input collection
+     * @throws NullPointerException if numbers is null or contains null
+     * @throws ClassCastException if a number is not an instance of NumberListImpl
+     * @see #changeScale(Collection, Executor)
+     */
+    public static List<NumberListImpl> changeScale(Collection<? extends NumberList> numbers) {
+        return changeScale(numbers, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts all given numbers to decimal, the same way as
+     * {@link NumberListImpl#changeScale()} does for a single number.
+     * <p>
+     * The table of powers of ten used to split the numbers is computed once,
+     * up to the size of the largest number, and then shared by all conversions,
+     * which run in parallel on the given executor.
+     * </p>
+     *
+     * @param numbers the numbers to convert; must not be null or contain nulls
+     * @param executor the executor running the conversions; must not be null
+     * @return the decimal representations, in the order of the input collection
+     * @throws NullPointerException if any argument is null or numbers contains null
+     * @throws ClassCastException if a number is not an instance of NumberListImpl
+     */
+    public static List<NumberListImpl> changeScale(Collection<? extends NumberList> numbers, Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        List<BigInteger> values = values(numbers);
+
+        int maxBitLength = 0;
+        for (BigInteger value : values) {
+            maxBitLength = Math.max(maxBitLength, value.bitLength());
+        }
+        RadixConverter converter = RadixConverter.forRadix(10);
+        converter.prepare(maxBitLength);
+
+        List<CompletableFuture<NumberListImpl>> tasks = new ArrayList<>(values.size());
+        for (BigInteger value : values) {
+            tasks.add(CompletableFuture.supplyAsync(
+                    () -> NumberListImpl.fromBigInteger(value, 10), executor));
+        }
+
+        List<NumberListImpl> result = new ArrayList<>(tasks.size());
+        for (CompletableFuture<NumberListImpl> task : tasks) {
+            result.add(task.join());
+        }
+        return result;
+    }
+
+    private static List<BigInteger> values(Collection<? extends NumberList> numbers) {
+        List<BigInteger> values = new ArrayList<>(numbers.size());
+        for (NumberList number : numbers) {
+            values.add(((NumberListImpl) Objects.requireNonNull(number, "number")).toBigInteger());
+        }
+        return values;
+    }
+}
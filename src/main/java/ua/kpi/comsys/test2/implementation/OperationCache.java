@@ -0,0 +1,295 @@
+package ua.kpi.comsys.test2.implementation;
+
+import ua.kpi.comsys.test2.NumberList;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded memoization of {@link NumberListImpl#additionalOperation(NumberList)}
+ * and {@link NumberListImpl#changeScale()}.
+ * <p>
+ * Results are keyed by the numeric values of the operands, using their cached
+ * hash codes, so repeated operations on the same hot values are computed once.
+ * The cache is bounded by the total number of digits of the cached operands and
+ * results, and optionally by their estimated heap size, and evicts the least
+ * recently used entries first. The estimated size of all cached lists is added to
+ * the tracked footprint of {@link NumberListMetrics}.
+ * </p>
+ *
+ * <p>
+ * Returned results are read-only lists shared between all callers: any attempt
+ * to modify them throws {@link UnsupportedOperationException}. Callers needing a
+ * mutable result should copy it. Operands are copied when an entry is stored,
+ * so modifying an operand afterwards does not affect the cache.
+ * </p>
+ *
+ * <p>
+ * The cache is opt-in: operations go through it only when called on an instance
+ * of this class. Instances are thread-safe.
+ * </p>
+ *
+ * @author Butkevych Yevhenii
+ * @version 1.0
+ */
+public class OperationCache {
+
+    /**
+     * Cached operation kinds.
+     */
+    private enum Kind {
+        MULTIPLY, CHANGE_SCALE
+    }
+
+    /**
+     * Cache key: the operation and the values of its operands.
+     * Multiplication is commutative, so its operands are stored in ascending order.
+     */
+    private static final class Key {
+        private final Kind kind;
+        private final NumberListImpl left;
+        private final NumberListImpl right;
+        private final int hash;
+
+        /** Estimated size of the operands and the result; set once the entry is stored */
+        private long bytes;
+
+        Key(Kind kind, NumberListImpl left, NumberListImpl right) {
+            if (right != null && left.compareTo(right) > 0) {
+                NumberListImpl tmp = left;
+                left = right;
+                right = tmp;
+            }
+            this.kind = kind;
+            this.left = left;
+            this.right = right;
+            this.hash = 31 * (31 * kind.hashCode() + left.hashCode()) + Objects.hashCode(right);
+        }
+
+        /**
+         * Returns a key holding read-only copies of the operands, safe to store.
+         */
+        Key copy() {
+            return new Key(kind, copyOf(left), right == null ? null : copyOf(right));
+        }
+
+        long digits() {
+            return left.size() + (right == null ? 0 : right.size());
+        }
+
+        long footprint() {
+            return left.memoryFootprint() + (right == null ? 0 : right.memoryFootprint());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return kind == that.kind && hash == that.hash
+                    && left.equals(that.left) && Objects.equals(right, that.right);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /** Maximum total number of cached digits */
+    private final long maxDigits;
+
+    /** Maximum estimated size of the cached lists, in bytes */
+    private final long maxBytes;
+
+    /** Entries in access order, least recently used first */
+    private final LinkedHashMap<Key, NumberListImpl> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Current total number of cached digits */
+    private long digits;
+
+    /** Current estimated size of the cached lists, in bytes */
+    private long bytes;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates a cache holding up to the given total number of digits,
+     * counting both operands and results.
+     *
+     * @param maxDigits the capacity of the cache in digits; must be positive
+     * @throws IllegalArgumentException if maxDigits is not positive
+     */
+    public OperationCache(long maxDigits) {
+        this(maxDigits, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a cache bounded both by the total number of digits and by the
+     * estimated heap size of the cached operands and results.
+     *
+     * @param maxDigits the capacity of the cache in digits; must be positive
+     * @param maxBytes the capacity of the cache in bytes, as estimated by
+     *        {@link NumberListImpl#memoryFootprint()}; must be positive
+     * @throws IllegalArgumentException if a capacity is not positive
+     */
+    public OperationCache(long maxDigits, long maxBytes) {
+        if (maxDigits <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("Capacity: " + maxDigits + " digits, " + maxBytes + " bytes");
+        }
+        this.maxDigits = maxDigits;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the product of two numbers, computing it only if it is not cached.
+     *
+     * @param left the first factor; must not be null
+     * @param right the second factor; must not be null
+     * @return the read-only octal product; never null
+     * @throws NullPointerException if an argument is null
+     * @throws ClassCastException if an argument is not an instance of NumberListImpl
+     */
+    public NumberListImpl multiply(NumberList left, NumberList right) {
+        NumberListImpl a = (NumberListImpl) Objects.requireNonNull(left, "left");
+        NumberListImpl b = (NumberListImpl) Objects.requireNonNull(right, "right");
+        return compute(new Key(Kind.MULTIPLY, a, b));
+    }
+
+    /**
+     * Returns the decimal representation of a number, converting it only if it is not cached.
+     *
+     * @param number the number to convert; must not be null
+     * @return the read-only result of {@link NumberListImpl#changeScale()}; never null
+     * @throws NullPointerException if number is null
+     * @throws ClassCastException if number is not an instance of NumberListImpl
+     */
+    public NumberListImpl changeScale(NumberList number) {
+        return compute(new Key(Kind.CHANGE_SCALE, (NumberListImpl) Objects.requireNonNull(number, "number"), null));
+    }
+
+    private NumberListImpl compute(Key key) {
+        synchronized (this) {
+            NumberListImpl cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+
+        NumberListImpl result = key.kind == Kind.MULTIPLY
+                ? key.left.additionalOperation(key.right)
+                : key.left.changeScale();
+        result.makeReadOnly();
+
+        long weight = key.digits() + result.size();
+        if (weight > maxDigits) return result;
+
+        Key stored = key.copy();
+        stored.bytes = stored.footprint() + result.memoryFootprint();
+        if (stored.bytes > maxBytes) return result;
+
+        synchronized (this) {
+            NumberListImpl previous = entries.putIfAbsent(stored, result);
+            if (previous != null) return previous;
+            digits += weight;
+            bytes += stored.bytes;
+            NumberListMetrics.trackFootprint(stored.bytes);
+            evict();
+        }
+        return result;
+    }
+
+    /**
+     * Removes least recently used entries until the cache fits its capacity.
+     */
+    private void evict() {
+        Iterator<Map.Entry<Key, NumberListImpl>> it = entries.entrySet().iterator();
+        while ((digits > maxDigits || bytes > maxBytes) && it.hasNext()) {
+            Map.Entry<Key, NumberListImpl> eldest = it.next();
+            digits -= eldest.getKey().digits() + eldest.getValue().size();
+            bytes -= eldest.getKey().bytes;
+            NumberListMetrics.trackFootprint(-eldest.getKey().bytes);
+            it.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that had to compute the result.
+     *
+     * @return the miss count
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries removed to stay within the capacity.
+     *
+     * @return the eviction count
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the total number of digits held by the cached operands and results.
+     *
+     * @return the current weight of the cache, never above its capacity
+     */
+    public synchronized long getDigits() {
+        return digits;
+    }
+
+    /**
+     * Returns the estimated heap size of the cached operands and results,
+     * measured when every entry was stored.
+     *
+     * @return the current size of the cache in bytes, never above its byte capacity
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the number of cached results.
+     *
+     * @return the entry count
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all entries. Statistics are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        digits = 0;
+        NumberListMetrics.trackFootprint(-bytes);
+        bytes = 0;
+    }
+
+    private static NumberListImpl copyOf(NumberListImpl list) {
+        if (list.isReadOnly()) return list;
+        NumberListImpl copy = new NumberListImpl();
+        copy.addAll(list);
+        copy.setNegative(list.isNegative());
+        return copy.makeReadOnly();
+    }
+}
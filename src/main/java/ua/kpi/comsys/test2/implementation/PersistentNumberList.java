@@ -0,0 +1,666 @@
+package ua.kpi.comsys.test2.implementation;
+
+import ua.kpi.comsys.test2.NumberList;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable octal number list with structural sharing.
+ * <p>
+ * Digits are stored in chunks of up to {@value #CHUNK} digits at the leaves of
+ * a height-balanced binary tree. Every "modification" returns a new list that
+ * shares all untouched chunks and subtrees with the original one:
+ * {@link #with(int, byte)} copies a single path and chunk, {@link #concat} and the
+ * cyclic shifts rebuild only {@code O(log n)} tree nodes. Lists can therefore be
+ * handed to other threads or cached without defensive copies.
+ * </p>
+ *
+ * <p>
+ * Instances are obtained with {@link NumberListImpl#snapshot()} or {@link #of(NumberList)}.
+ * All {@link java.util.List} and {@link NumberList} mutators throw
+ * {@link UnsupportedOperationException}. Like {@link NumberListImpl}, equality and
+ * ordering are numeric: leading zeros are ignored, and a negative number keeps its
+ * sign, which every derived list inherits. Zero has no sign.
+ * </p>
+ *
+ * @author Butkevych Yevhenii
+ * @version 1.0
+ */
+public final class PersistentNumberList extends AbstractList<Byte>
+        implements NumberList, Comparable<NumberList> {
+
+    /** Maximum number of digits in a leaf chunk */
+    static final int CHUNK = 32;
+
+    /** The empty list */
+    private static final PersistentNumberList EMPTY = new PersistentNumberList(null, false);
+
+    /**
+     * Node of the tree.
+     */
+    private abstract static class Rope {
+        abstract int size();
+
+        abstract int height();
+
+        abstract byte get(int index);
+
+        abstract long footprint();
+    }
+
+    /**
+     * Leaf holding a chunk of digits. The array is never modified.
+     */
+    private static final class Leaf extends Rope {
+        private final byte[] digits;
+
+        Leaf(byte[] digits) {
+            this.digits = digits;
+        }
+
+        @Override
+        int size() {
+            return digits.length;
+        }
+
+        @Override
+        int height() {
+            return 0;
+        }
+
+        @Override
+        byte get(int index) {
+            return digits[index];
+        }
+
+        @Override
+        long footprint() {
+            return Footprint.object(Footprint.REFERENCE) + Footprint.byteArray(digits.length);
+        }
+    }
+
+    /**
+     * Inner node: concatenation of two subtrees whose heights differ by at most one.
+     */
+    private static final class Branch extends Rope {
+        private final Rope left;
+        private final Rope right;
+        private final int size;
+        private final int height;
+
+        Branch(Rope left, Rope right) {
+            this.left = left;
+            this.right = right;
+            this.size = left.size() + right.size();
+            this.height = Math.max(left.height(), right.height()) + 1;
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        int height() {
+            return height;
+        }
+
+        @Override
+        byte get(int index) {
+            int leftSize = left.size();
+            return index < leftSize ? left.get(index) : right.get(index - leftSize);
+        }
+
+        @Override
+        long footprint() {
+            return Footprint.object(2 * Footprint.REFERENCE + 8) + left.footprint() + right.footprint();
+        }
+    }
+
+    /** The tree; null for the empty list */
+    private final Rope root;
+
+    /** Whether the number is negative; ignored while all digits are zero */
+    private final boolean negative;
+
+    private PersistentNumberList(Rope root, boolean negative) {
+        this.root = root;
+        this.negative = negative;
+    }
+
+    /**
+     * Returns an immutable list with the same digits and sign as the given one.
+     * For a {@link NumberListImpl} this is its {@link NumberListImpl#snapshot()};
+     * lists of other types have no sign.
+     *
+     * @param list the list to copy; must not be null
+     * @return an immutable list; never null
+     * @throws NullPointerException if list is null
+     */
+    public static PersistentNumberList of(NumberList list) {
+        if (list instanceof PersistentNumberList) return (PersistentNumberList) list;
+        if (list instanceof NumberListImpl) return ((NumberListImpl) list).snapshot();
+
+        byte[] digits = new byte[list.size()];
+        int i = 0;
+        for (Byte digit : list) {
+            digits[i++] = digit;
+        }
+        return fromDigits(digits, false);
+    }
+
+    /**
+     * Creates a list holding the given digits, most significant first.
+     * The array is copied into chunks and not referenced afterwards.
+     *
+     * @param digits the digits of the list
+     * @param negative whether the number is negative
+     * @return an immutable list; never null
+     */
+    static PersistentNumberList fromDigits(byte[] digits, boolean negative) {
+        if (digits.length == 0) return EMPTY;
+        return new PersistentNumberList(build(digits, 0, (digits.length + CHUNK - 1) / CHUNK), negative);
+    }
+
+    /**
+     * Builds a perfectly balanced tree over the chunks with indexes in [from, to).
+     */
+    private static Rope build(byte[] digits, int from, int to) {
+        if (to - from == 1) {
+            int start = from * CHUNK;
+            return new Leaf(Arrays.copyOfRange(digits, start, Math.min(start + CHUNK, digits.length)));
+        }
+        int middle = (from + to) >>> 1;
+        return new Branch(build(digits, from, middle), build(digits, middle, to));
+    }
+
+    /**
+     * Returns a new list holding the same digits and sign as this one.
+     *
+     * @return a new mutable NumberListImpl; never null
+     */
+    public NumberListImpl toNumberListImpl() {
+        NumberListImpl result = new NumberListImpl();
+        for (Iterator<Byte> it = iterator(); it.hasNext(); ) {
+            result.add(it.next());
+        }
+        result.setNegative(negative);
+        return result;
+    }
+
+    /**
+     * Returns the sign of this number.
+     *
+     * @return -1, 0 or 1 if this number is negative, zero or positive
+     */
+    public int signum() {
+        if (root == null || leadingZeros(this) == size()) return 0;
+        return negative ? -1 : 1;
+    }
+
+    /**
+     * Returns true if this number is less than zero.
+     *
+     * @return true if the number is negative; false for zero
+     */
+    public boolean isNegative() {
+        return signum() < 0;
+    }
+
+    /**
+     * Returns a list with the digit at the given position replaced.
+     * The sign of this list is kept.
+     *
+     * @param index the index of the digit to replace
+     * @param digit the new digit
+     * @return a new list sharing all other chunks with this one
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public PersistentNumberList with(int index, byte digit) {
+        checkIndex(index);
+        if (root.get(index) == digit) return this;
+        return new PersistentNumberList(with(root, index, digit), negative);
+    }
+
+    private static Rope with(Rope rope, int index, byte digit) {
+        if (rope instanceof Leaf) {
+            byte[] digits = ((Leaf) rope).digits.clone();
+            digits[index] = digit;
+            return new Leaf(digits);
+        }
+        Branch branch = (Branch) rope;
+        int leftSize = branch.left.size();
+        return index < leftSize
+                ? new Branch(with(branch.left, index, digit), branch.right)
+                : new Branch(branch.left, with(branch.right, index - leftSize, digit));
+    }
+
+    /**
+     * Returns the concatenation of this list and another one:
+     * the digits of {@code other} follow the digits of this list.
+     * The result has the sign of this list.
+     *
+     * @param other the list to append; must not be null
+     * @return a new list sharing structure with both lists
+     * @throws NullPointerException if other is null
+     */
+    public PersistentNumberList concat(PersistentNumberList other) {
+        if (other.root == null) return this;
+        if (root == null) return new PersistentNumberList(other.root, negative);
+        return new PersistentNumberList(concat(root, other.root), negative);
+    }
+
+    /**
+     * Returns a list with the digits cyclically shifted one position to the left,
+     * as {@link NumberListImpl#shiftLeft()} does in place. The sign is kept.
+     *
+     * @return a new list sharing structure with this one
+     */
+    public PersistentNumberList shiftedLeft() {
+        if (size() <= 1) return this;
+        return new PersistentNumberList(concat(drop(root, 1), take(root, 1)), negative);
+    }
+
+    /**
+     * Returns a list with the digits cyclically shifted one position to the right,
+     * as {@link NumberListImpl#shiftRight()} does in place. The sign is kept.
+     *
+     * @return a new list sharing structure with this one
+     */
+    public PersistentNumberList shiftedRight() {
+        int size = size();
+        if (size <= 1) return this;
+        return new PersistentNumberList(concat(drop(root, size - 1), take(root, size - 1)), negative);
+    }
+
+    /**
+     * Concatenates two non-null trees, keeping the result height-balanced.
+     */
+    private static Rope concat(Rope a, Rope b) {
+        if (a instanceof Leaf && b instanceof Leaf && a.size() + b.size() <= CHUNK) {
+            byte[] left = ((Leaf) a).digits;
+            byte[] right = ((Leaf) b).digits;
+            byte[] digits = Arrays.copyOf(left, left.length + right.length);
+            System.arraycopy(right, 0, digits, left.length, right.length);
+            return new Leaf(digits);
+        }
+
+        int ha = a.height();
+        int hb = b.height();
+        if (ha > hb + 1) {
+            Branch x = (Branch) a;
+            return balance(x.left, concat(x.right, b));
+        }
+        if (hb > ha + 1) {
+            Branch y = (Branch) b;
+            return balance(concat(a, y.left), y.right);
+        }
+        return new Branch(a, b);
+    }
+
+    /**
+     * Joins two balanced trees whose heights differ by at most two, rotating if needed.
+     */
+    private static Rope balance(Rope l, Rope r) {
+        if (l.height() > r.height() + 1) {
+            Branch left = (Branch) l;
+            if (left.left.height() >= left.right.height()) {
+                return new Branch(left.left, new Branch(left.right, r));
+            }
+            Branch inner = (Branch) left.right;
+            return new Branch(new Branch(left.left, inner.left), new Branch(inner.right, r));
+        }
+        if (r.height() > l.height() + 1) {
+            Branch right = (Branch) r;
+            if (right.right.height() >= right.left.height()) {
+                return new Branch(new Branch(l, right.left), right.right);
+            }
+            Branch inner = (Branch) right.left;
+            return new Branch(new Branch(l, inner.left), new Branch(inner.right, right.right));
+        }
+        return new Branch(l, r);
+    }
+
+    /**
+     * Returns the tree of the first n digits; n must be in [1, size].
+     */
+    private static Rope take(Rope rope, int n) {
+        if (n == rope.size()) return rope;
+        if (rope instanceof Leaf) {
+            return new Leaf(Arrays.copyOf(((Leaf) rope).digits, n));
+        }
+        Branch branch = (Branch) rope;
+        int leftSize = branch.left.size();
+        if (n <= leftSize) return take(branch.left, n);
+        return concat(branch.left, take(branch.right, n - leftSize));
+    }
+
+    /**
+     * Returns the tree without its first n digits; n must be in [0, size).
+     */
+    private static Rope drop(Rope rope, int n) {
+        if (n == 0) return rope;
+        if (rope instanceof Leaf) {
+            byte[] digits = ((Leaf) rope).digits;
+            return new Leaf(Arrays.copyOfRange(digits, n, digits.length));
+        }
+        Branch branch = (Branch) rope;
+        int leftSize = branch.left.size();
+        if (n >= leftSize) return drop(branch.right, n - leftSize);
+        return concat(drop(branch.left, n), branch.right);
+    }
+
+    @Override
+    public Byte get(int index) {
+        checkIndex(index);
+        return root.get(index);
+    }
+
+    @Override
+    public int size() {
+        return root == null ? 0 : root.size();
+    }
+
+    /**
+     * Returns an estimate of the heap memory held by this list, in bytes.
+     * <p>
+     * Every chunk and tree node reachable from this list is counted, including
+     * those shared with other lists, so the estimates of lists derived from each
+     * other add up to more than they use together.
+     * </p>
+     *
+     * @return the estimated size of this list and its tree
+     */
+    public long memoryFootprint() {
+        return Footprint.object(Footprint.REFERENCE + 1) + (root == null ? 0 : root.footprint());
+    }
+
+    /**
+     * Returns true if this list contains the specified digit.
+     * Chunks are scanned eight digits at a time.
+     *
+     * @param o the element whose presence is to be tested
+     * @return true if this list contains the specified element
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified digit, or -1 if there is none.
+     * Chunks are scanned eight digits at a time.
+     *
+     * @param o the element to search for
+     * @return the index of the first occurrence, or -1 if not found
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Byte) || root == null) return -1;
+        return indexOf(root, (Byte) o);
+    }
+
+    private static int indexOf(Rope rope, byte value) {
+        if (rope instanceof Leaf) {
+            byte[] digits = ((Leaf) rope).digits;
+            return DigitScan.indexOf(digits, 0, digits.length, value);
+        }
+        Branch branch = (Branch) rope;
+        int index = indexOf(branch.left, value);
+        if (index >= 0) return index;
+        index = indexOf(branch.right, value);
+        return index < 0 ? -1 : branch.left.size() + index;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified digit, or -1 if there is none.
+     * Chunks are scanned eight digits at a time.
+     *
+     * @param o the element to search for
+     * @return the index of the last occurrence, or -1 if not found
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        if (!(o instanceof Byte) || root == null) return -1;
+        return lastIndexOf(root, (Byte) o);
+    }
+
+    private static int lastIndexOf(Rope rope, byte value) {
+        if (rope instanceof Leaf) {
+            byte[] digits = ((Leaf) rope).digits;
+            return DigitScan.lastIndexOf(digits, 0, digits.length, value);
+        }
+        Branch branch = (Branch) rope;
+        int index = lastIndexOf(branch.right, value);
+        if (index >= 0) return branch.left.size() + index;
+        return lastIndexOf(branch.left, value);
+    }
+
+    /**
+     * Counts the occurrences of every octal digit in this list, chunk by chunk.
+     *
+     * @return an array of 8 elements where element {@code d} is the number of digits equal to {@code d}
+     */
+    public int[] digitHistogram() {
+        int[] counts = new int[8];
+        if (root != null) {
+            histogram(root, counts);
+        }
+        return counts;
+    }
+
+    private static void histogram(Rope rope, int[] counts) {
+        if (rope instanceof Leaf) {
+            byte[] digits = ((Leaf) rope).digits;
+            DigitScan.histogram(digits, 0, digits.length, counts);
+            return;
+        }
+        histogram(((Branch) rope).left, counts);
+        histogram(((Branch) rope).right, counts);
+    }
+
+    /**
+     * Returns an iterator over the digits, visiting each chunk once.
+     *
+     * @return an iterator over the elements in this list
+     */
+    @Override
+    public Iterator<Byte> iterator() {
+        return new Iterator<Byte>() {
+            private final Deque<Rope> pending = new ArrayDeque<>();
+            private byte[] chunk = new byte[0];
+            private int position;
+
+            {
+                if (root != null) pending.push(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return position < chunk.length || !pending.isEmpty();
+            }
+
+            @Override
+            public Byte next() {
+                while (position == chunk.length) {
+                    if (pending.isEmpty()) throw new NoSuchElementException();
+                    Rope rope = pending.pop();
+                    while (rope instanceof Branch) {
+                        pending.push(((Branch) rope).right);
+                        rope = ((Branch) rope).left;
+                    }
+                    chunk = ((Leaf) rope).digits;
+                    position = 0;
+                }
+                return chunk[position++];
+            }
+        };
+    }
+
+    /**
+     * Returns the octal representation of this number, as {@link NumberListImpl#toString()} does,
+     * preceded by {@code '-'} if the number is negative.
+     *
+     * @return the octal string representation; "0" if the list is empty
+     */
+    @Override
+    public String toString() {
+        if (root == null) return "0";
+        StringBuilder sb = new StringBuilder(size() + 1);
+        if (signum() < 0) {
+            sb.append('-');
+        }
+        for (Byte digit : this) {
+            sb.append((char) ('0' + digit));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Compares this list with another object for numeric equality.
+     * Lists are equal if they represent the same number; leading zeros are ignored,
+     * and numbers of opposite signs are not equal, except for zero.
+     *
+     * @param o the object to compare with
+     * @return true if o is a PersistentNumberList with the same value
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PersistentNumberList)) return false;
+        return compareTo((PersistentNumberList) o) == 0;
+    }
+
+    /**
+     * Returns the hash code of the significant digits and the sign, computed
+     * the same way as {@link NumberListImpl#hashCode()}.
+     *
+     * @return the hash code value for this list
+     */
+    @Override
+    public int hashCode() {
+        int h = 1;
+        boolean significant = false;
+        for (Byte digit : this) {
+            significant |= digit != 0;
+            if (significant) h = 31 * h + digit;
+        }
+        return significant && negative ? -h : h;
+    }
+
+    /**
+     * Compares the numeric values of this list and another one.
+     * Leading zeros are ignored, and an empty list is equal to zero. The signs of
+     * PersistentNumberList and {@link NumberListImpl} operands are taken into account;
+     * lists of other types have no sign and are never negative.
+     *
+     * @param o the list to compare with; must not be null
+     * @return a negative number, zero or a positive number if this number is
+     *         less than, equal to or greater than the other one
+     */
+    @Override
+    public int compareTo(NumberList o) {
+        boolean thisNegative = signum() < 0;
+        boolean thatNegative = o instanceof PersistentNumberList
+                ? ((PersistentNumberList) o).signum() < 0
+                : o instanceof NumberListImpl && ((NumberListImpl) o).signum() < 0;
+        if (thisNegative != thatNegative) {
+            return thisNegative ? -1 : 1;
+        }
+        int magnitude = compareMagnitude(o);
+        return thisNegative ? -magnitude : magnitude;
+    }
+
+    /**
+     * Compares the absolute values of this list and another one.
+     */
+    private int compareMagnitude(NumberList o) {
+        int thisZeros = leadingZeros(this);
+        int thatZeros = leadingZeros(o);
+        int length = size() - thisZeros;
+        int thatLength = o.size() - thatZeros;
+        if (length != thatLength) {
+            return length < thatLength ? -1 : 1;
+        }
+
+        Iterator<Byte> these = iterator();
+        Iterator<Byte> those = o.iterator();
+        for (int i = 0; i < thisZeros; i++) these.next();
+        for (int i = 0; i < thatZeros; i++) those.next();
+        while (these.hasNext()) {
+            int diff = these.next() - those.next();
+            if (diff != 0) return diff < 0 ? -1 : 1;
+        }
+        return 0;
+    }
+
+    private static int leadingZeros(NumberList list) {
+        int zeros = 0;
+        for (Byte digit : list) {
+            if (digit != 0) break;
+            zeros++;
+        }
+        return zeros;
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean swap(int index1, int index2) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void sortAscending() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This operation is not supported.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void sortDescending() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This operation is not supported; use {@link #shiftedLeft()}.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void shiftLeft() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This operation is not supported; use {@link #shiftedRight()}.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void shiftRight() {
+        throw new UnsupportedOperationException();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Balanced product tree over a list of factors.
+ * <p>
+ * Level 0 holds the factors themselves, every next level holds the products of
+ * adjacent pairs of the previous one, and the last level holds the product of all
+ * factors. Compared to folding the factors left to right, every multiplication
+ * combines operands of similar size, which keeps the total cost close to that of
+ * a single multiplication of the result size instead of quadratic in it.
+ * </p>
+ *
+ * <p>
+ * Products of one level are independent and are computed on the given executor.
+ * The caller waits for each level to complete before starting the next one, so
+ * tasks never block on each other and any executor, including a bounded one,
+ * can be used. Only the level being reduced is kept while the tree is built,
+ * and only the root once it is complete.
+ * </p>
+ *
+ * @author Butkevych Yevhenii
+ * @version 1.0
+ */
+final class ProductTree {
+
+    /** The product of all factors */
+    private final BigInteger root;
+
+    /**
+     * Builds the product tree for the given factors, grouping products by the
+     * {@link NumberListTuning#getProductGrainBits() current grain}.
+     *
+     * @param factors the factors; must not be empty
+     * @param executor the executor computing the products of each level
+     * @throws IllegalArgumentException if there are no factors
+     */
+    ProductTree(List<BigInteger> factors, Executor executor) {
+        this(factors, executor, NumberListTuning.current().getProductGrainBits());
+    }
+
+    /**
+     * Builds the product tree for the given factors.
+     *
+     * @param factors the factors; must not be empty
+     * @param executor the executor computing the products of each level
+     * @param grainBits the minimal total size in bits of the operands multiplied by a
+     *        single task; smaller products are grouped together to keep task overhead low
+     * @throws IllegalArgumentException if there are no factors
+     */
+    ProductTree(List<BigInteger> factors, Executor executor, int grainBits) {
+        if (factors.isEmpty()) {
+            throw new IllegalArgumentException("No factors");
+        }
+
+        BigInteger[] level = factors.toArray(new BigInteger[0]);
+        while (level.length > 1) {
+            level = multiplyPairs(level, executor, grainBits);
+        }
+        root = level[0];
+    }
+
+    /**
+     * Returns the product of all factors.
+     *
+     * @return the value at the root of the tree
+     */
+    BigInteger root() {
+        return root;
+    }
+
+    /**
+     * Computes the next level of the tree. An odd last element is carried over unchanged.
+     */
+    private static BigInteger[] multiplyPairs(BigInteger[] level, Executor executor, int grainBits) {
+        BigInteger[] next = new BigInteger[(level.length + 1) / 2];
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+
+        int from = 0;
+        long bits = 0;
+        for (int i = 0; i < next.length; i++) {
+            int left = 2 * i;
+            if (left + 1 == level.length) {
+                next[i] = level[left];
+                continue;
+            }
+            bits += level[left].bitLength() + level[left + 1].bitLength();
+            if (bits >= grainBits) {
+                tasks.add(submit(level, next, from, i + 1, executor));
+                from = i + 1;
+                bits = 0;
+            }
+        }
+        multiplyRange(level, next, from, level.length / 2);
+
+        for (CompletableFuture<Void> task : tasks) {
+            task.join();
+        }
+        return next;
+    }
+
+    private static CompletableFuture<Void> submit(BigInteger[] level, BigInteger[] next,
+                                                  int from, int to, Executor executor) {
+        return CompletableFuture.runAsync(() -> multiplyRange(level, next, from, to), executor);
+    }
+
+    /**
+     * Computes the products of the pairs with indexes in the range [from, to) of the next level.
+     */
+    private static void multiplyRange(BigInteger[] level, BigInteger[] next, int from, int to) {
+        for (int i = from; i < to; i++) {
+            next[i] = level[2 * i].multiply(level[2 * i + 1]);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Divide-and-conquer conversion of non-negative numbers into digits of a given radix.
+ * <p>
+ * The converter keeps a table of powers {@code B^(2^i)}, where {@code B} is the
+ * largest power of the radix that fits into a {@code long}. The table is the
+ * product tree of the radix: a number below {@code B^(2^(i+1))} is split by
+ * {@code B^(2^i)} into a high and a low half, which are converted recursively
+ * down to single {@code long} chunks. Each conversion therefore costs a few
+ * divisions of balanced size per level instead of one short division per digit.
+ * </p>
+ *
+ * <p>
+ * The recursion always completes the high half before the low half, so digits
+ * are produced strictly most-significant-first. {@link #convert(BigInteger, DigitSink, int)}
+ * hands them to a sink in chunks as soon as they are known, letting consumers
+ * overlap with the rest of the conversion.
+ * </p>
+ *
+ * <p>
+ * The table only grows and is shared by all conversions in the same radix,
+ * so converting a batch of numbers pays for the powers only once.
+ * Instances are thread-safe.
+ * </p>
+ *
+ * <p>
+ * The two halves of every split are independent, so
+ * {@link #toDigits(BigInteger, ForkJoinPool)} converts them as separate fork-join
+ * tasks, each writing to its own fixed range of the output.
+ * </p>
+ *
+ * @author Butkevych Yevhenii
+ * @version 1.0
+ */
+final class RadixConverter {
+
+    /**
+     * Receiver of converted digits.
+     */
+    interface DigitSink {
+        /**
+         * Accepts the next digits of the number, most significant first.
+         * The array is reused after the call returns.
+         *
+         * @param digits the buffer holding the digits
+         * @param from the index of the first digit
+         * @param to the index after the last digit
+         */
+        void accept(byte[] digits, int from, int to);
+    }
+
+    /** Shared converters, indexed by radix */
+    private static final RadixConverter[] CONVERTERS = new RadixConverter[11];
+
+    static {
+        for (int radix = 2; radix < CONVERTERS.length; radix++) {
+            CONVERTERS[radix] = new RadixConverter(radix);
+        }
+    }
+
+    /** Radix of the produced digits */
+    private final int radix;
+
+    /** Number of digits in a single chunk */
+    private final int chunkDigits;
+
+    /** Powers B^(2^i); replaced by a longer copy when it has to grow */
+    private volatile BigInteger[] powers;
+
+    private RadixConverter(int radix) {
+        this.radix = radix;
+
+        int digits = 0;
+        long chunk = 1;
+        while (chunk <= Long.MAX_VALUE / radix) {
+            chunk *= radix;
+            digits++;
+        }
+        this.chunkDigits = digits;
+        this.powers = new BigInteger[] {BigInteger.valueOf(chunk)};
+    }
+
+    /**
+     * Returns the shared converter for the given radix.
+     *
+     * @param radix the radix of the produced digits, from 2 to 10
+     * @return the converter; never null
+     * @throws IllegalArgumentException if the radix is out of range
+     */
+    static RadixConverter forRadix(int radix) {
+        if (radix < 2 || radix >= CONVERTERS.length) {
+            throw new IllegalArgumentException("Radix: " + radix);
+        }
+        return CONVERTERS[radix];
+    }
+
+    /**
+     * Converts the value into digits, most significant first, without leading zeros.
+     * Zero is converted to a single {@code 0} digit.
+     *
+     * @param value the value to convert; must be non-negative
+     * @return the digits of the value
+     */
+    byte[] toDigits(BigInteger value) {
+        if (value.signum() == 0) return new byte[1];
+
+        int level = levelFor(value);
+        Writer writer = new Writer(new byte[chunkDigits << level], null);
+        write(value, level, writer);
+        return Arrays.copyOf(writer.buffer, writer.position);
+    }
+
+    /**
+     * Converts the value into digits like {@link #toDigits(BigInteger)}, splitting
+     * the work into fork-join tasks on the given pool.
+     *
+     * @param value the value to convert; must be non-negative
+     * @param pool the pool running the conversion tasks
+     * @param grainBits values shorter than this many bits are converted by a single task
+     * @return the digits of the value
+     */
+    byte[] toDigits(BigInteger value, ForkJoinPool pool, int grainBits) {
+        if (value.signum() == 0) return new byte[1];
+
+        int level = levelFor(value);
+        byte[] digits = new byte[chunkDigits << level];
+        pool.invoke(new Split(value, level, digits, 0, grainBits));
+
+        int start = 0;
+        while (digits[start] == 0) {
+            start++;
+        }
+        return Arrays.copyOfRange(digits, start, digits.length);
+    }
+
+    /**
+     * Converts the value into digits and passes them to the sink, most significant
+     * first and without leading zeros, every time {@code bufferSize} digits are ready.
+     * Zero is passed as a single {@code 0} digit.
+     *
+     * @param value the value to convert; must be non-negative
+     * @param sink the receiver of the digits
+     * @param bufferSize the maximum number of digits passed to the sink at once
+     */
+    void convert(BigInteger value, DigitSink sink, int bufferSize) {
+        Writer writer = new Writer(new byte[Math.max(bufferSize, chunkDigits)], sink);
+        if (value.signum() != 0) {
+            write(value, levelFor(value), writer);
+        }
+        writer.finish();
+    }
+
+    /**
+     * Makes sure the power table covers all values of up to the given bit length.
+     * Calling this once before converting a batch avoids growing the table concurrently.
+     *
+     * @param bitLength the largest bit length that will be converted
+     */
+    void prepare(int bitLength) {
+        levelFor(BigInteger.ONE.shiftLeft(bitLength));
+    }
+
+    /**
+     * Returns the smallest level i such that the value is below B^(2^i).
+     */
+    private int levelFor(BigInteger value) {
+        BigInteger[] table = powers;
+        int level = 0;
+        while (true) {
+            if (level == table.length) {
+                table = grow(level + 1);
+            }
+            if (value.compareTo(table[level]) < 0) return level;
+            level++;
+        }
+    }
+
+    /**
+     * Extends the power table to at least the given number of entries.
+     */
+    private synchronized BigInteger[] grow(int length) {
+        BigInteger[] table = powers;
+        if (table.length >= length) return table;
+
+        BigInteger[] extended = Arrays.copyOf(table, length);
+        for (int i = table.length; i < length; i++) {
+            extended[i] = extended[i - 1].multiply(extended[i - 1]);
+        }
+        powers = extended;
+        return extended;
+    }
+
+    /**
+     * Writes the value as exactly {@code chunkDigits * 2^level} digits, padded with zeros.
+     * The value must be below B^(2^level).
+     */
+    private void write(BigInteger value, int level, Writer writer) {
+        if (level == 0) {
+            writer.chunk(value.longValue());
+            return;
+        }
+
+        if (value.signum() == 0) {
+            for (int i = 1 << level; i > 0; i--) {
+                writer.chunk(0);
+            }
+            return;
+        }
+
+        BigInteger[] parts = value.divideAndRemainder(powers[level - 1]);
+        write(parts[0], level - 1, writer);
+        write(parts[1], level - 1, writer);
+    }
+
+    /**
+     * Writes the value as exactly {@code chunkDigits * 2^level} digits starting at
+     * the given offset. The array must already be zero-filled in that range.
+     */
+    private void fill(BigInteger value, int level, byte[] digits, int offset) {
+        if (value.signum() == 0) return;
+
+        if (level == 0) {
+            long chunk = value.longValue();
+            for (int i = offset + chunkDigits - 1; i >= offset; i--) {
+                digits[i] = (byte) (chunk % radix);
+                chunk /= radix;
+            }
+            return;
+        }
+
+        BigInteger[] parts = value.divideAndRemainder(powers[level - 1]);
+        fill(parts[0], level - 1, digits, offset);
+        fill(parts[1], level - 1, digits, offset + (chunkDigits << (level - 1)));
+    }
+
+    /**
+     * Task converting one half of a split into its own range of the output.
+     */
+    private final class Split extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final BigInteger value;
+        private final int level;
+        private final byte[] digits;
+        private final int offset;
+        private final int grainBits;
+
+        Split(BigInteger value, int level, byte[] digits, int offset, int grainBits) {
+            this.value = value;
+            this.level = level;
+            this.digits = digits;
+            this.offset = offset;
+            this.grainBits = grainBits;
+        }
+
+        @Override
+        protected void compute() {
+            if (level == 0 || value.bitLength() < grainBits) {
+                fill(value, level, digits, offset);
+                return;
+            }
+
+            BigInteger[] parts = value.divideAndRemainder(powers[level - 1]);
+            invokeAll(new Split(parts[0], level - 1, digits, offset, grainBits),
+                    new Split(parts[1], level - 1, digits, offset + (chunkDigits << (level - 1)), grainBits));
+        }
+    }
+
+    /**
+     * Sequential digit output dropping leading zeros.
+     * When the buffer is full, it is passed to the sink and reused.
+     */
+    private final class Writer {
+        private final byte[] buffer;
+        private final DigitSink sink;
+        private final byte[] chunk = new byte[chunkDigits];
+        private int position;
+        private boolean started;
+
+        Writer(byte[] buffer, DigitSink sink) {
+            this.buffer = buffer;
+            this.sink = sink;
+        }
+
+        /**
+         * Appends the {@code chunkDigits} digits of a single chunk.
+         */
+        void chunk(long value) {
+            for (int i = chunkDigits - 1; i >= 0; i--) {
+                chunk[i] = (byte) (value % radix);
+                value /= radix;
+            }
+
+            int from = 0;
+            if (!started) {
+                while (from < chunkDigits && chunk[from] == 0) {
+                    from++;
+                }
+                if (from == chunkDigits) return;
+                started = true;
+            }
+
+            while (from < chunkDigits) {
+                if (position == buffer.length) flush();
+                int count = Math.min(chunkDigits - from, buffer.length - position);
+                System.arraycopy(chunk, from, buffer, position, count);
+                position += count;
+                from += count;
+            }
+        }
+
+        /**
+         * Passes the remaining digits to the sink; writes a single zero if nothing was written.
+         */
+        void finish() {
+            if (!started) {
+                buffer[position++] = 0;
+            }
+            flush();
+        }
+
+        private void flush() {
+            if (position > 0) {
+                sink.accept(buffer, 0, position);
+                position = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package ua.kpi.comsys.test2.implementation;
+
+import ua.kpi.comsys.test2.NumberList;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * A number stored as its sign and the residues of its magnitude modulo a set of
+ * word-sized primes.
+ * <p>
+ * In this representation multiplication works on every residue independently,
+ * in time linear in the number of primes, and is spread over the common fork-join
+ * pool for large bases. The digits are only needed again when the value is read back
+ * with {@link #toNumberListImpl()} or {@link #changeScale()}, which reconstruct it by
+ * the Chinese remainder theorem.
+ * </p>
+ *
+ * <p>
+ * A {@link Basis} determines the largest value that can be represented. Every result
+ * keeps an upper bound of its bit length, and an operation whose result could exceed
+ * the capacity of the basis fails instead of silently wrapping around.
+ * Instances are immutable.
+ * </p>
+ *
+ * @author Butkevych Yevhenii
+ * @version 1.0
+ */
+public final class ResidueNumber {
+
+    /** Residues are multiplied in parallel from this number of primes on */
+    private static final int PARALLEL_PRIMES = 1024;
+
+    /**
+     * A set of distinct primes below {@code 2^31} whose product covers a given
+     * number of bits, together with the product tree used to split values into
+     * residues and to reconstruct them. Bases are immutable and may be shared.
+     */
+    public static final class Basis {
+        /** The primes, in decreasing order */
+        private final long[] primes;
+
+        /** Maximal bit length of a represented value */
+        private final int capacityBits;
+
+        /** Root of the product tree over the primes */
+        private final Node root;
+
+        /**
+         * Creates a basis large enough for values of up to the given bit length.
+         *
+         * @param capacityBits the maximal bit length of represented values; must be positive
+         * @throws IllegalArgumentException if capacityBits is not positive
+         */
+        public Basis(int capacityBits) {
+            if (capacityBits <= 0) {
+                throw new IllegalArgumentException("Capacity: " + capacityBits);
+            }
+            this.capacityBits = capacityBits;
+
+            long[] found = new long[capacityBits / 30 + 1];
+            int count = 0;
+            long bits = 0;
+            for (long candidate = Integer.MAX_VALUE; bits <= capacityBits; candidate -= 2) {
+                if (isPrime(candidate)) {
+                    found[count++] = candidate;
+                    bits += 30;
+                }
+            }
+            this.primes = Arrays.copyOf(found, count);
+            this.root = build(0, count);
+        }
+
+        /**
+         * Returns the maximal bit length of a value in this basis.
+         *
+         * @return the capacity in bits
+         */
+        public int getCapacityBits() {
+            return capacityBits;
+        }
+
+        /**
+         * Returns the number of primes, which is the number of residues of every value.
+         *
+         * @return the number of primes
+         */
+        public int size() {
+            return primes.length;
+        }
+
+        private Node build(int from, int to) {
+            if (to - from == 1) {
+                return new Node(BigInteger.valueOf(primes[from]), null, null);
+            }
+            int middle = (from + to) >>> 1;
+            return new Node(null, build(from, middle), build(middle, to));
+        }
+
+        /**
+         * Writes the residues of a value below the product of the node's primes.
+         */
+        private void split(BigInteger value, Node node, long[] residues, int from) {
+            if (node.left == null) {
+                residues[from] = value.longValue();
+                return;
+            }
+            split(value.mod(node.left.product), node.left, residues, from);
+            split(value.mod(node.right.product), node.right, residues, from + node.left.count);
+        }
+
+        /**
+         * Reconstructs the value below the product of the node's primes from its residues.
+         */
+        private BigInteger join(Node node, long[] residues, int from) {
+            if (node.left == null) {
+                return BigInteger.valueOf(residues[from]);
+            }
+            BigInteger low = join(node.left, residues, from);
+            BigInteger high = join(node.right, residues, from + node.left.count);
+            BigInteger t = high.subtract(low).multiply(node.leftInverse).mod(node.right.product);
+            return low.add(node.left.product.multiply(t));
+        }
+    }
+
+    /**
+     * Node of the product tree: the product of a range of primes and, for inner
+     * nodes, the inverse of the left product modulo the right one.
+     */
+    private static final class Node {
+        final BigInteger product;
+        final BigInteger leftInverse;
+        final Node left;
+        final Node right;
+        final int count;
+
+        Node(BigInteger prime, Node left, Node right) {
+            this.left = left;
+            this.right = right;
+            if (left == null) {
+                this.product = prime;
+                this.leftInverse = null;
+                this.count = 1;
+            } else {
+                this.product = left.product.multiply(right.product);
+                this.leftInverse = left.product.modInverse(right.product);
+                this.count = left.count + right.count;
+            }
+        }
+    }
+
+    /** The basis of the residues */
+    private final Basis basis;
+
+    /** Residue modulo every prime of the basis */
+    private final long[] residues;
+
+    /** Upper bound of the bit length of the magnitude */
+    private final long bitBound;
+
+    /** Whether the value is negative */
+    private final boolean negative;
+
+    private ResidueNumber(Basis basis, long[] residues, long bitBound, boolean negative) {
+        this.basis = basis;
+        this.residues = residues;
+        this.bitBound = bitBound;
+        this.negative = negative;
+    }
+
+    /**
+     * Converts a list into residues of the given basis.
+     *
+     * @param value the number to convert; must not be null
+     * @param basis the basis of the residues; must not be null
+     * @return the residue representation of the value; never null
+     * @throws NullPointerException if value or basis is null
+     * @throws ClassCastException if value is not an instance of NumberListImpl
+     * @throws ArithmeticException if the value does not fit into the basis
+     */
+    public static ResidueNumber of(NumberList value, Basis basis) {
+        BigInteger number = ((NumberListImpl) value).toBigInteger();
+        checkCapacity(number.bitLength(), basis);
+
+        long[] residues = new long[basis.size()];
+        basis.split(number.abs(), basis.root, residues, 0);
+        return new ResidueNumber(basis, residues, number.bitLength(), number.signum() < 0);
+    }
+
+    /**
+     * Returns the basis of this number.
+     *
+     * @return the basis; never null
+     */
+    public Basis getBasis() {
+        return basis;
+    }
+
+    /**
+     * Multiplies this number by another number of the same basis.
+     * Every residue is multiplied independently; no digits are reconstructed.
+     *
+     * @param other the second factor; must not be null
+     * @return the product; never null
+     * @throws NullPointerException if other is null
+     * @throws IllegalArgumentException if other has a different basis
+     * @throws ArithmeticException if the product may not fit into the basis
+     */
+    public ResidueNumber multiply(ResidueNumber other) {
+        if (other.basis != basis) {
+            throw new IllegalArgumentException("Different residue bases");
+        }
+        long bound = bitBound + other.bitBound;
+        checkCapacity(bound, basis);
+
+        long[] product = new long[residues.length];
+        long[] primes = basis.primes;
+        if (product.length >= PARALLEL_PRIMES) {
+            Arrays.parallelSetAll(product, i -> residues[i] * other.residues[i] % primes[i]);
+        } else {
+            for (int i = 0; i < product.length; i++) {
+                product[i] = residues[i] * other.residues[i] % primes[i];
+            }
+        }
+        return new ResidueNumber(basis, product, bound, negative != other.negative);
+    }
+
+    /**
+     * Reconstructs the value as an octal list.
+     *
+     * @return a new NumberListImpl with the value in octal; never null
+     */
+    public NumberListImpl toNumberListImpl() {
+        return NumberListImpl.fromBigInteger(toBigInteger(), 8);
+    }
+
+    /**
+     * Reconstructs the value as a decimal list, like {@link NumberListImpl#changeScale()}.
+     *
+     * @return a new NumberListImpl with the value in decimal; never null
+     */
+    public NumberListImpl changeScale() {
+        return NumberListImpl.fromBigInteger(toBigInteger(), 10);
+    }
+
+    /**
+     * Reconstructs the value from its residues.
+     */
+    BigInteger toBigInteger() {
+        BigInteger magnitude = basis.join(basis.root, residues, 0);
+        return negative ? magnitude.negate() : magnitude;
+    }
+
+    /**
+     * Two residue numbers are equal if they have the same basis and the same value.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ResidueNumber)) return false;
+
+        ResidueNumber other = (ResidueNumber) o;
+        return basis == other.basis && Arrays.equals(residues, other.residues)
+                && (negative == other.negative || isZero());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(residues);
+    }
+
+    private boolean isZero() {
+        for (long residue : residues) {
+            if (residue != 0) return false;
+        }
+        return true;
+    }
+
+    private static void checkCapacity(long bits, Basis basis) {
+        if (bits > basis.capacityBits) {
+            throw new ArithmeticException("Value of up to " + bits
+                    + " bits does not fit into a basis of " + basis.capacityBits + " bits");
+        }
+    }
+
+    /**
+     * Deterministic Miller-Rabin test for values below {@code 2^31}.
+     */
+    private static boolean isPrime(long n) {
+        if (n < 2) return false;
+        for (long p : new long[] {2, 3, 5, 7}) {
+            if (n % p == 0) return n == p;
+        }
+
+        long d = n - 1;
+        int s = Long.numberOfTrailingZeros(d);
+        d >>= s;
+        for (long a : new long[] {2, 7, 61}) {
+            if (a >= n) continue;
+            long x = powMod(a, d, n);
+            if (x == 1 || x == n - 1) continue;
+
+            boolean composite = true;
+            for (int r = 1; r < s && composite; r++) {
+                x = x * x % n;
+                composite = x != n - 1;
+            }
+            if (composite) return false;
+        }
+        return true;
+    }
+
+    private static long powMod(long base, long exponent, long modulus) {
+        long result = 1;
+        base %= modulus;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result = result * base % modulus;
+            }
+            base = base * base % modulus;
+            exponent >>= 1;
+        }
+        return result;
+    }
+}
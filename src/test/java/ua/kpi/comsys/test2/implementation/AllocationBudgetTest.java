@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Allocation budgets of the main operations, in bytes per octal digit.
+ * Every operation is warmed up first, then measured in several rounds on the
+ * current thread; the smallest round is compared with the budget, so a stray
+ * allocation by the test runner does not fail the build.
+ */
+public class AllocationBudgetTest {
+
+    static final int WARMUP = 50;
+    static final int ROUNDS = 5;
+    static final int ITERATIONS = 20;
+
+    static String DECIMAL = new BigInteger(30000, new Random(42)).toString();
+
+    com.sun.management.ThreadMXBean threads;
+
+    @Before
+    public void setUp() {
+        assumeTrue("Allocation counters are not available",
+                ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue("Allocation counters are not supported", threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    long bytesPerOp(Runnable operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < ITERATIONS; i++) {
+                operation.run();
+            }
+            best = Math.min(best, (threads.getCurrentThreadAllocatedBytes() - start) / ITERATIONS);
+        }
+        return best;
+    }
+
+    void assertBudget(String operation, long bytes, long budget) {
+        assertTrue(operation + " allocated " + bytes + " bytes, budget is " + budget, bytes <= budget);
+    }
+
+    @Test
+    public void testConstruction() {
+        int digits = new NumberListImpl(DECIMAL).size();
+
+        assertBudget("Construction", bytesPerOp(() -> new NumberListImpl(DECIMAL)), 48L * digits);
+    }
+
+    @Test
+    public void testAdditionalOperation() {
+        NumberListImpl list = new NumberListImpl(DECIMAL);
+
+        assertBudget("additionalOperation", bytesPerOp(() -> list.additionalOperation(list)), 96L * 2 * list.size());
+    }
+
+    @Test
+    public void testChangeScale() {
+        NumberListImpl list = new NumberListImpl(DECIMAL);
+
+        assertBudget("changeScale", bytesPerOp(list::changeScale), 160L * list.size());
+    }
+
+    @Test
+    public void testIteration() {
+        NumberListImpl list = new NumberListImpl(DECIMAL);
+        int[] sum = new int[1];
+
+        assertBudget("Iteration", bytesPerOp(() -> {
+            for (Byte digit : list) {
+                sum[0] += digit;
+            }
+        }), 64);
+    }
+
+    @Test
+    public void testSort() {
+        NumberListImpl list = new NumberListImpl(DECIMAL);
+
+        assertBudget("sortAscending", bytesPerOp(list::sortAscending), 2L * list.size());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class BatchConverterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testConvertResources() throws IOException, InterruptedException {
+        Path input = new File(FileListTest.PREFIX).toPath();
+        Path output = folder.newFolder("out").toPath();
+
+        BatchConverter.Report report = new BatchConverter(2).convert(input, output);
+
+        assertNotNull("Report is null while it shouldn't!", report);
+        assertEquals("Wrong number of results", 5, report.getResults().size());
+        assertEquals("Only the empty file should fail", 1, report.getFailures().size());
+        assertEquals("Wrong failed file", "EmptyFile.txt",
+                report.getFailures().get(0).getFile().getFileName().toString());
+
+        for (String name : new String[] {"1.txt", "14.txt", "227.txt", "BigNumber.txt"}) {
+            String expected = new NumberListImpl(new File(FileListTest.PREFIX, name)).changeScale().toString();
+            String actual = Files.readString(output.resolve(name), StandardCharsets.US_ASCII);
+            assertEquals("Incorrect conversion of " + name, expected, actual);
+        }
+        assertFalse("Failed file should not be written", Files.exists(output.resolve("EmptyFile.txt")));
+        assertTrue("Digit throughput should be positive", report.digitsPerSecond() > 0);
+    }
+
+    @Test
+    public void testInvalidNumberReported() throws IOException, InterruptedException {
+        Path input = folder.newFolder("in").toPath();
+        Files.writeString(input.resolve("ok.txt"), "64\n");
+        Files.writeString(input.resolve("bad.txt"), "5-\n");
+
+        BatchConverter.Report report = new BatchConverter(1).convert(input, folder.getRoot().toPath().resolve("res"));
+
+        assertEquals("Wrong number of failures", 1, report.getFailures().size());
+        BatchConverter.FileResult failure = report.getFailures().get(0);
+        assertEquals("Wrong failed file", "bad.txt", failure.getFile().getFileName().toString());
+        assertTrue("Wrong failure cause", failure.getError() instanceof NumberFormatException);
+        assertEquals("Successful result has wrong size", 2, report.getResults().get(1).getDigits());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidConcurrency() {
+        new BatchConverter(0);
+    }
+}
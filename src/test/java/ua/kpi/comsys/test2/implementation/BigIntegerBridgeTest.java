@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class BigIntegerBridgeTest {
+
+    @Test
+    public void testRoundTrip() {
+        Random random = new Random(42);
+        for (int bits = 1; bits < 3000; bits += 97) {
+            BigInteger value = new BigInteger(bits, random);
+
+            NumberListImpl list = NumberListImpl.valueOf(value);
+
+            assertEquals("valueOf() implemented in a wrong way", value.toString(8), list.toString());
+            assertEquals("toBigInteger() implemented in a wrong way", value, list.toBigInteger());
+        }
+    }
+
+    @Test
+    public void testSignBit() {
+        BigInteger value = BigInteger.ONE.shiftLeft(63);
+
+        assertEquals("Magnitude with the top bit set should stay positive",
+                value, NumberListImpl.valueOf(value).toBigInteger());
+    }
+
+    @Test
+    public void testZeroAndEmpty() {
+        assertEquals("Zero", "0", NumberListImpl.valueOf(BigInteger.ZERO).toString());
+        assertEquals("Empty list should be zero", BigInteger.ZERO, new NumberListImpl().toBigInteger());
+    }
+
+    @Test
+    public void testLeadingZeros() {
+        NumberListImpl padded = new NumberListImpl("64");
+        padded.add(0, (byte) 0);
+
+        assertEquals("Leading zeros should be ignored", BigInteger.valueOf(64), padded.toBigInteger());
+    }
+
+    @Test
+    public void testNegative() {
+        BigInteger value = BigInteger.valueOf(-12345);
+
+        NumberListImpl list = NumberListImpl.valueOf(value);
+
+        assertEquals("Negative value should keep its sign", value.toString(8), list.toString());
+        assertEquals("Negative round trip", value, list.toBigInteger());
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testInvalidDigit() {
+        NumberListImpl list = new NumberListImpl("10");
+        list.add((byte) 8);
+
+        list.toBigInteger();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testInvalidLeadingDigit() {
+        NumberListImpl list = new NumberListImpl();
+        list.add((byte) 9);
+        list.add((byte) 1);
+
+        list.changeScale();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testNegativeDigit() {
+        NumberListImpl list = new NumberListImpl();
+        list.add((byte) -1);
+
+        list.toDecimalString();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testInvalidDigitInMultiplication() {
+        NumberListImpl list = new NumberListImpl("10");
+        list.set(0, (byte) 8);
+
+        list.additionalOperation(new NumberListImpl("3"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testInvalidDigitInSmallDivision() {
+        NumberListImpl list = new NumberListImpl("100");
+        list.set(1, (byte) 9);
+
+        list.divide(new NumberListImpl("3"));
+    }
+}
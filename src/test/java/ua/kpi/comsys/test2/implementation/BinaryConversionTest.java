@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class BinaryConversionTest {
+
+    static byte[] magnitude(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        int start = 0;
+        while (start < bytes.length && bytes[start] == 0) {
+            start++;
+        }
+        return Arrays.copyOfRange(bytes, start, bytes.length);
+    }
+
+    @Test
+    public void testToByteArray() {
+        Random random = new Random(7);
+        for (int bits = 1; bits < 300; bits += 7) {
+            BigInteger value = new BigInteger(bits, random);
+            NumberListImpl list = new NumberListImpl(value.toString());
+
+            assertArrayEquals("toByteArray() implemented in a wrong way for " + value,
+                    magnitude(value), list.toByteArray());
+        }
+    }
+
+    @Test
+    public void testFromByteArray() {
+        Random random = new Random(11);
+        for (int length = 1; length < 40; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            BigInteger value = new BigInteger(1, bytes);
+
+            NumberListImpl list = NumberListImpl.fromByteArray(bytes);
+
+            assertEquals("fromByteArray() implemented in a wrong way", value.toString(8), list.toString());
+            assertArrayEquals("Round trip should keep the value", magnitude(value), list.toByteArray());
+        }
+    }
+
+    @Test
+    public void testToHexString() {
+        Random random = new Random(13);
+        for (int bits = 1; bits < 300; bits += 5) {
+            BigInteger value = new BigInteger(bits, random);
+
+            assertEquals("toHexString() implemented in a wrong way",
+                    value.toString(16), new NumberListImpl(value.toString()).toHexString());
+        }
+    }
+
+    @Test
+    public void testZero() {
+        NumberListImpl zero = new NumberListImpl("0");
+
+        assertEquals("Zero should have no magnitude bytes", 0, zero.toByteArray().length);
+        assertEquals("Zero in hex", "0", zero.toHexString());
+        assertEquals("Zero from bytes", "0", NumberListImpl.fromByteArray(new byte[2]).toString());
+        assertEquals("Zero from empty array", "0", NumberListImpl.fromByteArray(new byte[0]).toString());
+    }
+
+    @Test
+    public void testZeroRuns() {
+        byte[] bytes = {1, 0, 0, 0, 0, 0};
+
+        NumberListImpl list = NumberListImpl.fromByteArray(bytes);
+
+        assertEquals("Inner zero digits should be kept", BigInteger.ONE.shiftLeft(40).toString(8), list.toString());
+        assertEquals("Leading zero bytes should be skipped", "1", NumberListImpl.fromByteArray(new byte[] {0, 0, 1}).toString());
+    }
+
+    @Test
+    public void testLeadingZeros() {
+        NumberListImpl padded = new NumberListImpl("255");
+        padded.add(0, (byte) 0);
+
+        assertArrayEquals("Leading zeros should be ignored", new byte[] {(byte) 0xFF}, padded.toByteArray());
+        assertEquals("Leading zeros should be ignored", "ff", padded.toHexString());
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testInvalidDigitHex() {
+        NumberListImpl list = new NumberListImpl();
+        list.add((byte) -1);
+
+        list.toHexString();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testInvalidDigitBytes() {
+        NumberListImpl list = new NumberListImpl("10");
+        list.add((byte) 8);
+
+        list.toByteArray();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CompareListTest {
+
+    @Test
+    public void testCompareByValue() {
+        NumberListImpl small = new NumberListImpl("999");
+        NumberListImpl big = new NumberListImpl("1000");
+        NumberListImpl sameBig = new NumberListImpl("1000");
+
+        assertTrue("Smaller number should compare less", small.compareTo(big) < 0);
+        assertTrue("Bigger number should compare greater", big.compareTo(small) > 0);
+        assertEquals("Equal numbers should compare equal", 0, big.compareTo(sameBig));
+    }
+
+    @Test
+    public void testLeadingZerosIgnored() {
+        NumberListImpl list = new NumberListImpl("8");
+        NumberListImpl padded = new NumberListImpl("8");
+        padded.add(0, (byte) 0);
+        padded.add(0, (byte) 0);
+
+        assertEquals("Leading zeros should not affect comparison", 0, list.compareTo(padded));
+        assertTrue("Padded number should compare less than a bigger one",
+                padded.compareTo(new NumberListImpl("9")) < 0);
+        assertEquals("Empty list should compare equal to zero", 0,
+                new NumberListImpl().compareTo(new NumberListImpl("0")));
+    }
+
+    @Test
+    public void testSort() {
+        List<NumberListImpl> numbers = new ArrayList<>();
+        for (String value : new String[] {"512", "7", "0", "4096", "63", "64"}) {
+            numbers.add(new NumberListImpl(value));
+        }
+
+        Collections.sort(numbers);
+
+        StringBuilder sb = new StringBuilder();
+        for (NumberListImpl number : numbers) {
+            sb.append(number.toDecimalString()).append(' ');
+        }
+        assertEquals("Numbers sorted in a wrong way", "0 7 63 64 512 4096 ", sb.toString());
+    }
+
+    @Test
+    public void testHashCodeFollowsModification() {
+        NumberListImpl list1 = new NumberListImpl("12345");
+        NumberListImpl list2 = new NumberListImpl("12345");
+        assertEquals("Equal lists should have equal hash codes", list1.hashCode(), list2.hashCode());
+
+        list2.set(0, (byte) 2);
+        assertNotEquals("Modified list should not be equal", list1, list2);
+
+        list2.set(0, list1.get(0));
+        assertEquals("Restored list should be equal", list1, list2);
+        assertEquals("Restored list should have the same hash code", list1.hashCode(), list2.hashCode());
+    }
+
+    @Test
+    public void testConcurrentReaders() {
+        NumberListImpl expected = new NumberListImpl("-1234567890");
+        int expectedHash = expected.hashCode();
+
+        for (int round = 0; round < 200; round++) {
+            NumberListImpl shared = new NumberListImpl("-1234567890");
+            shared.add(0, (byte) 0);
+            long mismatches = IntStream.range(0, 8).parallel()
+                    .filter(i -> !shared.equals(expected) || shared.hashCode() != expectedHash
+                            || shared.compareTo(expected) != 0 || shared.bitLength() != expected.bitLength())
+                    .count();
+            assertEquals("Readers of an unmodified list should agree", 0, mismatches);
+        }
+    }
+}
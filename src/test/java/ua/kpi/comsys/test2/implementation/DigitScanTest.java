@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DigitScanTest {
+
+    @Test
+    public void testIsDecimal() {
+        assertTrue("Digits should be decimal", DigitScan.isDecimal("0123456789"));
+        assertFalse("Null should not be decimal", DigitScan.isDecimal(null));
+        assertFalse("Empty string should not be decimal", DigitScan.isDecimal(""));
+        assertFalse("Sign should not be decimal", DigitScan.isDecimal("-4"));
+        assertFalse("Letters should not be decimal", DigitScan.isDecimal("12a3"));
+        assertFalse("Non-ASCII digits should not be decimal", DigitScan.isDecimal("1\u0663"));
+    }
+
+    @Test
+    public void testSearchMatchesScalar() {
+        Random random = new Random(5);
+        for (int n = 0; n < 300; n++) {
+            byte[] digits = new byte[random.nextInt(70)];
+            for (int i = 0; i < digits.length; i++) {
+                digits[i] = (byte) random.nextInt(8);
+            }
+            int from = digits.length == 0 ? 0 : random.nextInt(digits.length);
+            byte value = (byte) random.nextInt(9);
+
+            int first = -1;
+            int last = -1;
+            for (int i = from; i < digits.length; i++) {
+                if (digits[i] == value) {
+                    if (first < 0) first = i;
+                    last = i;
+                }
+            }
+
+            assertEquals("Wrong first index", first, DigitScan.indexOf(digits, from, digits.length, value));
+            assertEquals("Wrong last index", last, DigitScan.lastIndexOf(digits, from, digits.length, value));
+        }
+    }
+
+    @Test
+    public void testPersistentSearch() {
+        NumberListImpl list = new NumberListImpl(new BigInteger(3000, new Random(9)).toString());
+        PersistentNumberList snapshot = list.snapshot();
+
+        for (byte digit = 0; digit < 9; digit++) {
+            assertEquals("Wrong indexOf(" + digit + ")", list.indexOf(digit), snapshot.indexOf(digit));
+            assertEquals("Wrong lastIndexOf(" + digit + ")", list.lastIndexOf(digit), snapshot.lastIndexOf(digit));
+            assertEquals("Wrong contains(" + digit + ")", list.contains(digit), snapshot.contains(digit));
+        }
+        assertArrayEquals("Histograms should match", list.digitHistogram(), snapshot.digitHistogram());
+        assertEquals("Histogram should count every digit", list.size(),
+                Arrays.stream(list.digitHistogram()).sum());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class DivisionTest {
+
+    static BigInteger DIVIDEND = new BigInteger(5000, new Random(42));
+
+    static void assertDivision(BigInteger dividend, BigInteger divisor) {
+        NumberListImpl a = new NumberListImpl(dividend.toString());
+        NumberListImpl b = new NumberListImpl(divisor.toString());
+        BigInteger[] expected = dividend.divideAndRemainder(divisor);
+
+        NumberListImpl[] result = a.divideAndRemainder(b);
+
+        assertEquals("Wrong quotient for divisor " + divisor, expected[0].toString(8), result[0].toString());
+        assertEquals("Wrong remainder for divisor " + divisor, expected[1].toString(8), result[1].toString());
+        assertEquals("divide() implemented in a wrong way", result[0], a.divide(b));
+        assertEquals("remainder() implemented in a wrong way", result[1], a.remainder(b));
+    }
+
+    @Test
+    public void testSmallDivisors() {
+        long[] divisors = {1, 2, 7, 8, 10, 12345, (1L << 31) - 1, (1L << 60) - 1, 1L << 59};
+        for (long divisor : divisors) {
+            assertDivision(DIVIDEND, BigInteger.valueOf(divisor));
+        }
+    }
+
+    @Test
+    public void testLargeDivisors() {
+        Random random = new Random(1);
+        for (int bits : new int[] {61, 64, 200, 2500, 4999, 6000}) {
+            assertDivision(DIVIDEND, new BigInteger(bits, random).setBit(bits - 1));
+        }
+    }
+
+    @Test
+    public void testSmallDividend() {
+        assertDivision(BigInteger.ZERO, BigInteger.valueOf(3));
+        assertDivision(BigInteger.valueOf(5), BigInteger.valueOf(7));
+        assertDivision(BigInteger.valueOf(5), BigInteger.ONE.shiftLeft(100));
+    }
+
+    @Test
+    public void testLeadingZeros() {
+        NumberListImpl padded = new NumberListImpl("100");
+        padded.add(0, (byte) 0);
+        NumberListImpl divisor = new NumberListImpl("7");
+        divisor.add(0, (byte) 0);
+
+        assertEquals("Leading zeros should be ignored", "16", padded.divide(divisor).toString());
+        assertEquals("Leading zeros should be ignored", "2", padded.remainder(divisor).toString());
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testDivisionByZero() {
+        new NumberListImpl("10").divide(new NumberListImpl("0"));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IndexedListTest {
+
+    static String BIG = new BigInteger(3000, new Random(42)).toString();
+
+    @Test
+    public void testQueriesMatchUnindexed() {
+        NumberListImpl plain = new NumberListImpl(BIG);
+        NumberListImpl indexed = new NumberListImpl(BIG);
+        indexed.setIndexed(true);
+
+        for (int i = 0; i < plain.size(); i += 37) {
+            assertEquals("get() implemented in a wrong way", plain.get(i), indexed.get(i));
+        }
+        for (byte digit = 0; digit < 9; digit++) {
+            assertEquals("indexOf() implemented in a wrong way", plain.indexOf(digit), indexed.indexOf(digit));
+            assertEquals("lastIndexOf() implemented in a wrong way", plain.lastIndexOf(digit), indexed.lastIndexOf(digit));
+            assertEquals("contains() implemented in a wrong way", plain.contains(digit), indexed.contains(digit));
+        }
+    }
+
+    @Test
+    public void testModificationInvalidatesIndex() {
+        NumberListImpl list = new NumberListImpl("8");
+        list.setIndexed(true);
+        assertFalse("List should not contain 7 yet", list.contains((byte) 7));
+
+        list.set(0, (byte) 7);
+        list.add((byte) 3);
+
+        assertEquals("Index should see set()", Byte.valueOf((byte) 7), list.get(0));
+        assertEquals("Index should see add()", Byte.valueOf((byte) 3), list.get(2));
+        assertEquals("Index should see set()", 0, list.indexOf((byte) 7));
+
+        list.remove(0);
+        assertEquals("Index should see remove()", Byte.valueOf((byte) 0), list.get(0));
+        assertEquals("Index should see remove()", -1, list.indexOf((byte) 7));
+    }
+
+    @Test
+    public void testConcurrentReaders() throws Exception {
+        NumberListImpl list = new NumberListImpl(BIG);
+        list.setIndexed(true);
+        NumberListImpl plain = new NumberListImpl(BIG);
+        byte[] expected = new byte[plain.size()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = plain.get(i);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int seed = t;
+                results.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 10000; i++) {
+                        int index = random.nextInt(expected.length);
+                        if (list.get(index) != expected[index]) return false;
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue("Concurrent reader saw a wrong digit", result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testTurnOff() {
+        NumberListImpl list = new NumberListImpl("64");
+        list.setIndexed(true);
+        list.get(0);
+
+        list.setIndexed(false);
+
+        assertFalse("Index should be off", list.isIndexed());
+        assertEquals("Queries should still work", Byte.valueOf((byte) 1), list.get(0));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MemoryFootprintTest {
+
+    @Test
+    public void testGrowsWithDigits() {
+        long empty = new NumberListImpl().memoryFootprint();
+        NumberListImpl list = new NumberListImpl("123456789012345678901234567890");
+
+        assertTrue("Empty list should still count the list object", empty > 0);
+        assertEquals("Every digit should cost one node",
+                list.size() * 24L, list.memoryFootprint() - empty);
+    }
+
+    @Test
+    public void testCompactDropsCaches() {
+        NumberListImpl list = new NumberListImpl("123456789012345678901234567890");
+        long bare = list.memoryFootprint();
+
+        list.setIndexed(true);
+        list.get(3);
+        list.snapshot();
+        long cached = list.memoryFootprint();
+        long released = list.compact();
+
+        assertTrue("Index and snapshot should be counted", cached > bare);
+        assertEquals("Compaction should release the caches", cached - bare, released);
+        assertEquals("Compacted list should be back to its nodes", bare, list.memoryFootprint());
+        assertEquals("Compaction should not change the digits", new NumberListImpl("123456789012345678901234567890"), list);
+        assertEquals("Nothing left to release", 0, list.compact());
+    }
+
+    @Test
+    public void testPersistentFootprint() {
+        NumberListImpl list = new NumberListImpl("123456789012345678901234567890");
+        PersistentNumberList snapshot = list.snapshot();
+
+        assertTrue("Chunks should be smaller than nodes",
+                snapshot.memoryFootprint() < list.size() * 24L);
+        assertTrue("Chunks should hold every digit",
+                snapshot.memoryFootprint() > list.size());
+    }
+
+    @Test
+    public void testCacheTracksBytes() {
+        long before = NumberListMetrics.getInstance().getTrackedFootprint();
+        OperationCache cache = new OperationCache(1000);
+        NumberListImpl a = new NumberListImpl("15");
+
+        NumberListImpl decimal = cache.changeScale(a);
+        long bytes = cache.getBytes();
+
+        assertEquals("Entry should weigh its operand and result",
+                a.memoryFootprint() + decimal.memoryFootprint(), bytes);
+        assertEquals("Gauge should include the entry", before + bytes,
+                NumberListMetrics.getInstance().getTrackedFootprint());
+
+        cache.clear();
+        assertEquals("Cleared cache should hold nothing", 0, cache.getBytes());
+        assertEquals("Gauge should drop the entry", before, NumberListMetrics.getInstance().getTrackedFootprint());
+    }
+
+    @Test
+    public void testEvictionByBytes() {
+        NumberListImpl first = new NumberListImpl("1234567");
+        NumberListImpl second = new NumberListImpl("7654321");
+        long entry = first.memoryFootprint() + first.changeScale().memoryFootprint();
+        OperationCache cache = new OperationCache(1000, entry + entry / 2);
+
+        cache.changeScale(first);
+        cache.changeScale(second);
+
+        assertEquals("Only one entry should fit", 1, cache.size());
+        assertEquals("Wrong eviction count", 1, cache.getEvictions());
+        assertTrue("Cache should stay within its byte capacity", cache.getBytes() <= entry + entry / 2);
+        cache.clear();
+    }
+}
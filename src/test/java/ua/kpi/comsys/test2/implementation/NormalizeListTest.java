@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NormalizeListTest {
+
+    @Test
+    public void testZeroRepresentationsEqual() {
+        NumberListImpl empty = new NumberListImpl();
+        NumberListImpl zero = new NumberListImpl("0");
+        NumberListImpl zeros = new NumberListImpl("0");
+        zeros.add((byte) 0);
+
+        assertEquals("Empty list should equal zero", empty, zero);
+        assertEquals("Zero digits should equal zero", zero, zeros);
+        assertEquals("Equal zeros should have equal hash codes", empty.hashCode(), zeros.hashCode());
+        assertEquals("changeScale() of zero should equal zero", empty, empty.changeScale());
+        assertTrue("Empty list should be zero", empty.isZero());
+        assertTrue("Zero digits should be zero", zeros.isZero());
+    }
+
+    @Test
+    public void testLeadingZerosIgnored() {
+        NumberListImpl list = new NumberListImpl("4095");
+        NumberListImpl padded = new NumberListImpl("4095");
+        padded.add(0, (byte) 0);
+
+        assertEquals("Leading zeros should be ignored", list, padded);
+        assertEquals("Leading zeros should not change hash code", list.hashCode(), padded.hashCode());
+        assertEquals("Leading zeros should not change value", "4095", padded.toDecimalString());
+        assertFalse("Number should not be zero", padded.isZero());
+    }
+
+    @Test
+    public void testBitLength() {
+        for (String value : new String[] {"0", "1", "7", "8", "255", "256", "1212144468782345613"}) {
+            NumberListImpl list = new NumberListImpl(value);
+            list.add(0, (byte) 0);
+
+            assertEquals("Wrong bit length of " + value, new BigInteger(value).bitLength(), list.bitLength());
+        }
+    }
+
+    @Test
+    public void testNormalize() {
+        NumberListImpl list = new NumberListImpl("64");
+        list.add(0, (byte) 0);
+        list.add(0, (byte) 0);
+
+        list.normalize();
+        assertEquals("Leading zeros should be removed", "100", list.toString());
+
+        NumberListImpl zero = new NumberListImpl("0");
+        zero.add((byte) 0);
+        zero.normalize();
+        assertEquals("Zero should keep a single digit", 1, zero.size());
+
+        NumberListImpl empty = new NumberListImpl();
+        empty.normalize();
+        assertTrue("Empty list should stay empty", empty.isEmpty());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class NumberExprTest {
+
+    @Test
+    public void testSingleOperand() {
+        NumberListImpl list = new NumberListImpl("64");
+
+        NumberListImpl result = NumberExpr.of(list).evaluate();
+
+        assertNotNull("Result is null while it shouldn't!", result);
+        assertEquals("Single operand evaluated in a wrong way", list, result);
+    }
+
+    @Test
+    public void testChainMatchesAdditionalOperation() {
+        NumberListImpl a = new NumberListImpl("123456789");
+        NumberListImpl b = new NumberListImpl("987654321");
+        NumberListImpl c = new NumberListImpl("555");
+
+        NumberListImpl expected = a.additionalOperation(b).additionalOperation(c);
+
+        assertEquals("Product evaluated in a wrong way", expected, NumberExpr.of(a).times(b).times(c).evaluate());
+        assertEquals("Radix conversion fused in a wrong way",
+                expected.changeScale(), NumberExpr.of(a).times(b).times(c).inRadix(10));
+    }
+
+    @Test
+    public void testSharedSubexpression() {
+        NumberListImpl a = new NumberListImpl("12");
+        NumberExpr square = NumberExpr.of(a).times(a);
+
+        NumberListImpl result = square.times(square).inRadix(10);
+
+        assertEquals("Shared sub-expression evaluated in a wrong way", "20736", result.toString());
+    }
+
+    @Test
+    public void testOperandsReadOnEvaluation() {
+        NumberListImpl a = new NumberListImpl("3");
+        NumberExpr expr = NumberExpr.of(a).times(new NumberListImpl("5"));
+
+        a.set(0, (byte) 4);
+
+        assertEquals("Operand should be read on evaluation", "20", expr.inRadix(10).toString());
+    }
+
+    @Test
+    public void testZeroFactor() {
+        NumberListImpl result = NumberExpr.of(new NumberListImpl("77"))
+                .times(new NumberListImpl()).inRadix(10);
+
+        assertEquals("Product with zero evaluated in a wrong way", "0", result.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRadix() {
+        NumberExpr.of(new NumberListImpl("1")).inRadix(16);
+    }
+}
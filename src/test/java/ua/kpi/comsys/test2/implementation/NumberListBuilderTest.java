@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NumberListBuilderTest {
+
+    static String BIG = new BigInteger(5000, new Random(42)).toString();
+
+    @Test
+    public void testFeedInPieces() {
+        Random random = new Random(3);
+        NumberListBuilder builder = new NumberListBuilder();
+
+        int position = 0;
+        while (position < BIG.length()) {
+            int end = Math.min(BIG.length(), position + random.nextInt(40));
+            builder.feed(BIG.subSequence(position, end));
+            position = end;
+        }
+
+        assertEquals("Builder implemented in a wrong way", new NumberListImpl(BIG), builder.build());
+        assertEquals("Wrong digit count", BIG.length(), builder.digitCount());
+    }
+
+    @Test
+    public void testChunkBoundaries() {
+        for (int length = 1; length <= 4 * NumberListBuilder.CHUNK_DIGITS + 1; length++) {
+            String value = BIG.substring(0, length);
+
+            assertEquals("Wrong result for " + length + " digits",
+                    new NumberListImpl(value).toString(), new NumberListBuilder().feed(value).build().toString());
+        }
+    }
+
+    @Test
+    public void testBuildIsNotDestructive() {
+        NumberListBuilder builder = new NumberListBuilder().feed("123");
+
+        assertEquals("Wrong first result", new NumberListImpl("123"), builder.build());
+        assertEquals("Builder should continue after build()", new NumberListImpl("123456"), builder.feed("456").build());
+    }
+
+    @Test
+    public void testFeedByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(BIG.getBytes(StandardCharsets.US_ASCII));
+
+        NumberListImpl result = new NumberListBuilder().feed(buffer).build();
+
+        assertEquals("ByteBuffer input implemented in a wrong way", new NumberListImpl(BIG), result);
+        assertFalse("Buffer should be consumed", buffer.hasRemaining());
+    }
+
+    @Test
+    public void testFeedChannel() throws IOException {
+        byte[] bytes = BIG.getBytes(StandardCharsets.US_ASCII);
+
+        NumberListImpl result = new NumberListBuilder()
+                .feed(Channels.newChannel(new ByteArrayInputStream(bytes))).build();
+
+        assertEquals("Channel input implemented in a wrong way", new NumberListImpl(BIG), result);
+    }
+
+    @Test
+    public void testEmpty() {
+        assertTrue("Empty input should build an empty list", new NumberListBuilder().build().isEmpty());
+        assertEquals("Zeros should build zero", "0", new NumberListBuilder().feed("000").build().toString());
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testInvalidDigit() {
+        new NumberListBuilder().feed("12").feed("3a");
+    }
+
+    @Test
+    public void testLineTerminatedChannel() throws IOException {
+        NumberListImpl lf = new NumberListBuilder()
+                .feed(Channels.newChannel(new ByteArrayInputStream("123\n".getBytes(StandardCharsets.US_ASCII))))
+                .build();
+        NumberListImpl crlf = new NumberListBuilder()
+                .feed(Channels.newChannel(new ByteArrayInputStream((BIG + "\r\n").getBytes(StandardCharsets.US_ASCII))))
+                .build();
+
+        assertEquals("Line feed should end the number", new NumberListImpl("123"), lf);
+        assertEquals("CRLF should end the number", new NumberListImpl(BIG), crlf);
+    }
+
+    @Test(timeout = 10000)
+    public void testOpenPipe() throws IOException {
+        Pipe pipe = Pipe.open();
+        pipe.sink().write(ByteBuffer.wrap("-42\n".getBytes(StandardCharsets.US_ASCII)));
+
+        NumberListImpl result = new NumberListBuilder().feed(pipe.source()).build();
+
+        assertEquals("Reading should stop at the line terminator", new NumberListImpl("-42"), result);
+        pipe.sink().close();
+        pipe.source().close();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testDataAfterTerminator() {
+        new NumberListBuilder().feed("12\n3");
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NumberListFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    static List<NumberListImpl> numbers(int count) {
+        Random random = new Random(42);
+        List<NumberListImpl> numbers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            numbers.add(new NumberListImpl(new BigInteger(1 + random.nextInt(200), random).toString()));
+        }
+        return numbers;
+    }
+
+    @Test
+    public void testWriteAndLoadAll() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("numbers.txt");
+        List<NumberListImpl> numbers = numbers(10000);
+
+        NumberListFile.write(file, numbers);
+        NumberListFile loaded = NumberListFile.open(file);
+
+        assertEquals("Wrong number count", numbers.size(), loaded.size());
+        assertEquals("loadAll() implemented in a wrong way", numbers, loaded.loadAll());
+    }
+
+    @Test
+    public void testRandomAccess() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("numbers.txt");
+        List<NumberListImpl> numbers = numbers(100);
+        NumberListFile.write(file, numbers);
+
+        NumberListFile loaded = NumberListFile.open(file);
+
+        assertEquals("get() implemented in a wrong way", numbers.get(57), loaded.get(57));
+        assertEquals("load() implemented in a wrong way",
+                Arrays.asList(numbers.get(99), numbers.get(0), numbers.get(42)), loaded.load(99, 0, 42));
+    }
+
+    @Test
+    public void testLineEndings() throws IOException {
+        Path file = folder.newFile("mixed.txt").toPath();
+        Files.writeString(file, "8\r\n\n64");
+
+        NumberListFile loaded = NumberListFile.open(file);
+
+        assertEquals("Wrong number count", 3, loaded.size());
+        assertEquals("CRLF line", "10", loaded.get(0).toString());
+        assertTrue("Empty line should give an empty list", loaded.get(1).isEmpty());
+        assertEquals("Last line without terminator", "100", loaded.get(2).toString());
+    }
+
+    @Test
+    public void testSingleNumberFile() throws IOException {
+        Path file = folder.newFile("single.txt").toPath();
+        Files.writeString(file, "123\n");
+
+        NumberListFile loaded = NumberListFile.open(file);
+
+        assertEquals("A single-number file should be a valid container", 1, loaded.size());
+        assertEquals("Wrong number", new NumberListImpl("123"), loaded.get(0));
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        assertEquals("Empty file should hold no numbers", 0, NumberListFile.open(folder.newFile().toPath()).size());
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testInvalidLine() throws IOException {
+        Path file = folder.newFile("invalid.txt").toPath();
+        Files.writeString(file, "12\n4-\n");
+
+        NumberListFile.open(file).loadAll();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndexOutOfBounds() throws IOException {
+        Path file = folder.newFile("one.txt").toPath();
+        Files.writeString(file, "1\n");
+
+        NumberListFile.open(file).get(1);
+    }
+}
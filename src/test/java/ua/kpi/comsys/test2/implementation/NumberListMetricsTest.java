@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Test;
+
+import ua.kpi.comsys.test2.implementation.NumberListMetrics.Operation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NumberListMetricsTest {
+
+    NumberListMetrics metrics = NumberListMetrics.getInstance();
+
+    @After
+    public void tearDown() {
+        metrics.setEnabled(false);
+        metrics.reset();
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        metrics.reset();
+        new NumberListImpl("12345").changeScale();
+
+        assertFalse("Metrics should be disabled by default", metrics.isEnabled());
+        assertEquals("Disabled metrics should not count", 0, metrics.getCount(Operation.CHANGE_SCALE));
+    }
+
+    @Test
+    public void testOperationsRecorded() {
+        metrics.setEnabled(true);
+        metrics.reset();
+
+        NumberListImpl list = new NumberListImpl("4096");
+        list.additionalOperation(list);
+        list.changeScale();
+        list.get(2);
+
+        assertEquals("Construction not recorded", 1, metrics.getCount(Operation.CONSTRUCT));
+        assertEquals("Construction size not recorded", 5, metrics.getTotalSize(Operation.CONSTRUCT));
+        assertEquals("Multiplication not recorded", 1, metrics.getCount(Operation.MULTIPLY));
+        assertEquals("Multiplication size not recorded", 10, metrics.getTotalSize(Operation.MULTIPLY));
+        assertEquals("Radix conversion not recorded", 1, metrics.getCount(Operation.CHANGE_SCALE));
+        assertEquals("Node hops not recorded", 2, metrics.getNodeHops());
+        assertTrue("Latency quantile should cover the mean",
+                metrics.getLatencyQuantile(Operation.MULTIPLY, 1.0) >= metrics.getMeanLatency(Operation.MULTIPLY));
+    }
+
+    @Test
+    public void testPowerRecorded() {
+        NumberListImpl list = new NumberListImpl("4096");
+        NumberListImpl modulus = new NumberListImpl("1000");
+        metrics.setEnabled(true);
+        metrics.reset();
+
+        list.square();
+        list.pow(3);
+        list.modPow(list, modulus);
+
+        assertEquals("Exponentiation not recorded", 3, metrics.getCount(Operation.POWER));
+        assertEquals("Exponentiation size not recorded", 5 + 5 + 5 + 5 + 4, metrics.getTotalSize(Operation.POWER));
+    }
+
+    @Test
+    public void testDivisionRecorded() {
+        NumberListImpl list = new NumberListImpl("4096");
+        NumberListImpl small = new NumberListImpl("7");
+        NumberListImpl large = new NumberListImpl("12345678901234567890123");
+        metrics.setEnabled(true);
+        metrics.reset();
+
+        list.divide(small);
+        list.remainder(small);
+        large.divideAndRemainder(large);
+
+        assertEquals("Division not recorded", 3, metrics.getCount(Operation.DIVIDE));
+        assertEquals("Division size not recorded", 6 + 6 + 2 * large.size(), metrics.getTotalSize(Operation.DIVIDE));
+    }
+
+    @Test
+    public void testMBeanRegistered() throws Exception {
+        metrics.setEnabled(true);
+        metrics.reset();
+        new NumberListImpl("1");
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(NumberListMetrics.OBJECT_NAME);
+
+        assertTrue("MBean is not registered", server.isRegistered(name));
+        assertEquals("MBean attribute has wrong value", 1L, server.getAttribute(name, "Constructions"));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NumberListTuningTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testDefaults() {
+        NumberListTuning tuning = NumberListTuning.load(new Properties(), folder.getRoot().toPath().resolve("missing"));
+
+        assertEquals("Wrong default", NumberListTuning.DEFAULT_PARALLEL_CONVERSION_BITS, tuning.getParallelConversionBits());
+        assertEquals("Wrong default", NumberListTuning.DEFAULT_PRODUCT_GRAIN_BITS, tuning.getProductGrainBits());
+    }
+
+    @Test
+    public void testProfileAndOverrides() throws IOException {
+        Path profile = folder.getRoot().toPath().resolve("profile").resolve("tuning.properties");
+        new NumberListTuning(4096, 2048).save(profile);
+
+        Properties overrides = new Properties();
+        overrides.setProperty(NumberListTuning.PRODUCT_GRAIN_BITS, "1024");
+        NumberListTuning tuning = NumberListTuning.load(overrides, profile);
+
+        assertEquals("Profile value should be used", 4096, tuning.getParallelConversionBits());
+        assertEquals("System property should override the profile", 1024, tuning.getProductGrainBits());
+    }
+
+    @Test
+    public void testMalformedValuesAreIgnored() throws IOException {
+        Path profile = folder.newFile("tuning.properties").toPath();
+        Files.writeString(profile, NumberListTuning.PARALLEL_CONVERSION_BITS + "=fast\n");
+
+        Properties overrides = new Properties();
+        overrides.setProperty(NumberListTuning.PRODUCT_GRAIN_BITS, "-5");
+        NumberListTuning tuning = NumberListTuning.load(overrides, profile);
+
+        assertEquals("Malformed value should be ignored", NumberListTuning.DEFAULT_PARALLEL_CONVERSION_BITS, tuning.getParallelConversionBits());
+        assertEquals("Negative value should be ignored", NumberListTuning.DEFAULT_PRODUCT_GRAIN_BITS, tuning.getProductGrainBits());
+    }
+
+    @Test
+    public void testSetCurrent() {
+        NumberListTuning previous = NumberListTuning.current();
+        BigInteger value = new BigInteger(20000, new Random(42));
+        try {
+            NumberListTuning.setCurrent(new NumberListTuning(1024, 64));
+
+            assertEquals("Conversion with a small threshold is wrong",
+                    value.toString(), new NumberListImpl(value.toString()).changeScale().toString());
+        } finally {
+            NumberListTuning.setCurrent(previous);
+        }
+    }
+
+    @Test
+    public void testCalibrate() {
+        NumberListTuning tuning = NumberListTuning.calibrate();
+
+        assertTrue("Calibrated conversion threshold out of range", tuning.getParallelConversionBits() >= 1 << 12);
+        assertTrue("Calibrated product grain out of range", tuning.getProductGrainBits() >= 1 << 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveThreshold() {
+        new NumberListTuning(0, 1);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class NumberListsTest {
+
+    @Test
+    public void testProductMatchesFold() {
+        List<NumberListImpl> factors = new ArrayList<>();
+        NumberListImpl expected = new NumberListImpl("1");
+        for (int i = 1; i <= 300; i++) {
+            NumberListImpl factor = new NumberListImpl(String.valueOf(i * 7919L));
+            factors.add(factor);
+            expected = expected.additionalOperation(factor);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            NumberListImpl result = NumberLists.product(factors, executor);
+
+            assertNotNull("Result is null while it shouldn't!", result);
+            assertEquals("Product implemented in a wrong way", expected, result);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testEmptyProduct() {
+        NumberListImpl result = NumberLists.product(Collections.<NumberListImpl>emptyList());
+
+        assertEquals("Empty product should be one", "1", result.toString());
+    }
+
+    @Test
+    public void testBatchChangeScale() {
+        BigInteger big = BigInteger.TEN.pow(500).subtract(BigInteger.ONE);
+        List<NumberListImpl> numbers = Arrays.asList(
+                new NumberListImpl("0"),
+                new NumberListImpl("1212144468782345613"),
+                new NumberListImpl(big.toString()),
+                new NumberListImpl(big.add(BigInteger.ONE).toString()),
+                new NumberListImpl());
+
+        List<NumberListImpl> result = NumberLists.changeScale(numbers);
+
+        assertEquals("Wrong number of results", numbers.size(), result.size());
+        for (int i = 0; i < numbers.size(); i++) {
+            assertEquals("Batch changeScale() implemented in a wrong way",
+                    numbers.get(i).changeScale(), result.get(i));
+        }
+    }
+}
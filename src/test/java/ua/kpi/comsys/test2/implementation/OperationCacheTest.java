@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class OperationCacheTest {
+
+    @Test
+    public void testMultiplyHit() {
+        OperationCache cache = new OperationCache(1000);
+        NumberListImpl a = new NumberListImpl("15");
+        NumberListImpl b = new NumberListImpl("2");
+
+        NumberListImpl first = cache.multiply(a, b);
+        NumberListImpl second = cache.multiply(new NumberListImpl("2"), new NumberListImpl("15"));
+
+        assertEquals("Cached product is wrong", new NumberListImpl("30"), first);
+        assertSame("Commutative product should be a hit", first, second);
+        assertEquals("Wrong hit count", 1, cache.getHits());
+        assertEquals("Wrong miss count", 1, cache.getMisses());
+    }
+
+    @Test
+    public void testOperandModificationDoesNotAffectCache() {
+        OperationCache cache = new OperationCache(1000);
+        NumberListImpl a = new NumberListImpl("100");
+
+        NumberListImpl decimal = cache.changeScale(a);
+        a.set(0, (byte) 2);
+
+        assertEquals("Cached conversion is wrong", "100", decimal.toString());
+        assertEquals("Modified operand should be converted again", a.changeScale(), cache.changeScale(a));
+        assertEquals("Wrong miss count", 2, cache.getMisses());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testResultIsReadOnly() {
+        OperationCache cache = new OperationCache(1000);
+        NumberListImpl result = cache.changeScale(new NumberListImpl("42"));
+
+        assertTrue("Result should be read-only", result.isReadOnly());
+        result.add((byte) 1);
+    }
+
+    @Test
+    public void testEvictionByDigits() {
+        OperationCache cache = new OperationCache(20);
+        NumberListImpl first = new NumberListImpl("1234567");
+        NumberListImpl second = new NumberListImpl("7654321");
+
+        cache.changeScale(first);
+        cache.changeScale(second);
+
+        assertEquals("Oldest entry should be evicted", 1, cache.getEvictions());
+        assertTrue("Cache should stay within capacity", cache.getDigits() <= 20);
+
+        cache.changeScale(second);
+        assertEquals("Recent entry should be kept", 1, cache.getHits());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ParallelChangeScaleTest {
+
+    static byte[] digits(String value) {
+        byte[] digits = new byte[value.length()];
+        for (int i = 0; i < digits.length; i++) {
+            digits[i] = (byte) (value.charAt(i) - '0');
+        }
+        return digits;
+    }
+
+    @Test
+    public void testChangeScaleAboveThreshold() {
+        BigInteger value = new BigInteger(NumberListTuning.current().getParallelConversionBits() * 5, new Random(42));
+        NumberListImpl list = new NumberListImpl(value.toString());
+
+        assertEquals("Parallel changeScale() implemented in a wrong way", value.toString(), list.changeScale().toString());
+    }
+
+    @Test
+    public void testSplitsWithZeroHalves() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BigInteger power = BigInteger.TEN.pow(100000);
+            BigInteger[] values = {power, power.subtract(BigInteger.ONE), power.add(BigInteger.ONE), power.shiftLeft(7)};
+
+            for (BigInteger value : values) {
+                assertArrayEquals("Wrong digits for a value near a power of ten",
+                        digits(value.toString()), RadixConverter.forRadix(10).toDigits(value, pool, 1 << 12));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSmallValues() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        assertArrayEquals("Zero should be a single digit", new byte[1], RadixConverter.forRadix(10).toDigits(BigInteger.ZERO, pool, 1));
+        assertArrayEquals("Small value", digits("12345"), RadixConverter.forRadix(10).toDigits(BigInteger.valueOf(12345), pool, 1));
+    }
+}
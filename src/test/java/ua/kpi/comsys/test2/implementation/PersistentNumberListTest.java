@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PersistentNumberListTest {
+
+    static String BIG = new BigInteger(2000, new Random(42)).toString();
+
+    @Test
+    public void testSnapshot() {
+        NumberListImpl list = new NumberListImpl(BIG);
+
+        PersistentNumberList snapshot = list.snapshot();
+
+        assertEquals("Snapshot has wrong digits", list.toString(), snapshot.toString());
+        assertSame("Unmodified list should return the same snapshot", snapshot, list.snapshot());
+
+        list.set(0, (byte) 0);
+        assertNotSame("Modified list should return a new snapshot", snapshot, list.snapshot());
+        assertEquals("Snapshot should not see later modifications", new NumberListImpl(BIG).toString(), snapshot.toString());
+    }
+
+    @Test
+    public void testWith() {
+        NumberListImpl list = new NumberListImpl(BIG);
+        PersistentNumberList snapshot = list.snapshot();
+        Random random = new Random(1);
+
+        PersistentNumberList current = snapshot;
+        for (int i = 0; i < 200; i++) {
+            int index = random.nextInt(list.size());
+            byte digit = (byte) random.nextInt(8);
+            list.set(index, digit);
+            current = current.with(index, digit);
+        }
+
+        assertEquals("with() implemented in a wrong way", list.toString(), current.toString());
+        assertEquals("Original version should not change", new NumberListImpl(BIG).toString(), snapshot.toString());
+    }
+
+    @Test
+    public void testShifts() {
+        NumberListImpl list = new NumberListImpl(BIG);
+        PersistentNumberList current = list.snapshot();
+
+        for (int i = 0; i < 100; i++) {
+            list.shiftLeft();
+            current = current.shiftedLeft();
+        }
+        assertEquals("shiftedLeft() implemented in a wrong way", list.toString(), current.toString());
+
+        for (int i = 0; i < 150; i++) {
+            list.shiftRight();
+            current = current.shiftedRight();
+        }
+        assertEquals("shiftedRight() implemented in a wrong way", list.toString(), current.toString());
+        assertEquals("Size should not change", list.size(), current.size());
+    }
+
+    @Test
+    public void testConcat() {
+        PersistentNumberList left = new NumberListImpl("63").snapshot();
+        PersistentNumberList right = new NumberListImpl(BIG).snapshot();
+
+        PersistentNumberList result = left.concat(right).concat(left);
+
+        assertEquals("concat() implemented in a wrong way",
+                left.toString() + right.toString() + left.toString(), result.toString());
+    }
+
+    @Test
+    public void testNumericEquality() {
+        NumberListImpl padded = new NumberListImpl("100");
+        padded.add(0, (byte) 0);
+
+        PersistentNumberList a = padded.snapshot();
+        PersistentNumberList b = new NumberListImpl("100").snapshot();
+
+        assertEquals("Leading zeros should be ignored", a, b);
+        assertEquals("Equal lists should have equal hash codes", a.hashCode(), b.hashCode());
+        assertEquals("Hash code should match NumberListImpl", padded.hashCode(), a.hashCode());
+        assertTrue("Smaller number should compare less", a.compareTo(new NumberListImpl("101")) < 0);
+        assertEquals("Round trip should keep the value", padded, a.toNumberListImpl());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testImmutable() {
+        new NumberListImpl("12").snapshot().add((byte) 1);
+    }
+}
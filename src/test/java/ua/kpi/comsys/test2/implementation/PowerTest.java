@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class PowerTest {
+
+    static BigInteger BIG = new BigInteger(1000, new Random(42));
+
+    @Test
+    public void testSquare() {
+        NumberListImpl list = new NumberListImpl(BIG.toString());
+
+        assertEquals("square() implemented in a wrong way", list.additionalOperation(list), list.square());
+        assertEquals("Square of zero", "0", new NumberListImpl("0").square().toString());
+    }
+
+    @Test
+    public void testPow() {
+        NumberListImpl list = new NumberListImpl("12345");
+
+        assertEquals("pow() implemented in a wrong way",
+                BigInteger.valueOf(12345).pow(37).toString(8), list.pow(37).toString());
+        assertEquals("Zero exponent should give one", "1", list.pow(0).toString());
+        assertEquals("First power should keep the value", list, list.pow(1));
+    }
+
+    @Test
+    public void testModPow() {
+        BigInteger exponent = new BigInteger(300, new Random(1));
+        BigInteger odd = new BigInteger(500, new Random(2)).setBit(0);
+        BigInteger even = odd.clearBit(0);
+        NumberListImpl list = new NumberListImpl(BIG.toString());
+
+        for (BigInteger modulus : new BigInteger[] {odd, even}) {
+            NumberListImpl result = list.modPow(new NumberListImpl(exponent.toString()),
+                    new NumberListImpl(modulus.toString()));
+
+            assertEquals("modPow() implemented in a wrong way",
+                    BIG.modPow(exponent, modulus).toString(8), result.toString());
+        }
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testNegativeExponent() {
+        new NumberListImpl("2").pow(-1);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testZeroModulus() {
+        new NumberListImpl("2").modPow(new NumberListImpl("3"), new NumberListImpl("0"));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class RenderingTest {
+
+    static BigInteger BIG = new BigInteger(100000, new Random(42));
+
+    @Test
+    public void testToString() {
+        NumberListImpl list = new NumberListImpl(BIG.toString());
+
+        assertEquals("toString() implemented in a wrong way", BIG.toString(8), list.toString());
+        assertEquals("toDecimalString() implemented in a wrong way", BIG.toString(), list.toDecimalString());
+        assertEquals("Negative decimal", BIG.negate().toString(), new NumberListImpl(BIG.negate().toString()).toDecimalString());
+    }
+
+    @Test
+    public void testAppendTo() throws IOException {
+        NumberListImpl list = new NumberListImpl(BIG.negate().toString());
+
+        StringBuilder octal = new StringBuilder("x=");
+        list.appendTo(octal);
+        StringBuilder decimal = new StringBuilder();
+        list.appendDecimalTo(decimal);
+
+        assertEquals("appendTo() implemented in a wrong way", "x=" + list, octal.toString());
+        assertEquals("appendDecimalTo() implemented in a wrong way", list.toDecimalString(), decimal.toString());
+    }
+
+    @Test
+    public void testWriteTo() throws IOException {
+        NumberListImpl list = new NumberListImpl(BIG.toString());
+
+        ByteArrayOutputStream octal = new ByteArrayOutputStream();
+        list.writeTo(octal);
+        ByteArrayOutputStream decimal = new ByteArrayOutputStream();
+        list.writeDecimalTo(decimal);
+
+        assertEquals("writeTo() implemented in a wrong way", list.toString(), octal.toString(StandardCharsets.US_ASCII));
+        assertEquals("writeDecimalTo() implemented in a wrong way", BIG.toString(), decimal.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testEmptyAndZero() throws IOException {
+        StringBuilder out = new StringBuilder();
+        new NumberListImpl().appendTo(out);
+        new NumberListImpl().appendDecimalTo(out);
+        new NumberListImpl("0").appendTo(out);
+
+        assertEquals("Empty list and zero should render as 0", "000", out.toString());
+        assertEquals("Empty list decimal", "0", new NumberListImpl().toDecimalString());
+    }
+
+    @Test(expected = IOException.class)
+    public void testWriteFailure() throws IOException {
+        new NumberListImpl(BIG.toString()).writeDecimalTo(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken stream");
+            }
+        });
+    }
+
+    @Test
+    public void testNonOctalDigits() throws IOException {
+        NumberListImpl list = new NumberListImpl();
+        list.add((byte) 1);
+        list.add((byte) 12);
+        list.add((byte) -1);
+
+        StringBuilder appended = new StringBuilder();
+        list.appendTo(appended);
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        list.writeTo(written);
+
+        assertEquals("Digits outside 0-9 should be written as numbers", "112-1", list.toString());
+        assertEquals("appendTo() should match toString()", "112-1", appended.toString());
+        assertEquals("writeTo() should match toString()", "112-1", written.toString(StandardCharsets.US_ASCII));
+    }
+}
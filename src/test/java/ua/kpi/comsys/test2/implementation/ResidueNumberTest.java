@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ResidueNumberTest {
+
+    @Test
+    public void testRoundTrip() {
+        ResidueNumber.Basis basis = new ResidueNumber.Basis(5000);
+        BigInteger value = new BigInteger(4999, new Random(42));
+
+        ResidueNumber residue = ResidueNumber.of(new NumberListImpl(value.toString()), basis);
+
+        assertEquals("Round trip implemented in a wrong way", value.toString(8), residue.toNumberListImpl().toString());
+        assertEquals("changeScale() implemented in a wrong way", value.toString(), residue.changeScale().toString());
+    }
+
+    @Test
+    public void testMultiply() {
+        ResidueNumber.Basis basis = new ResidueNumber.Basis(40000);
+        Random random = new Random(7);
+
+        BigInteger expected = BigInteger.ONE;
+        ResidueNumber product = ResidueNumber.of(new NumberListImpl("1"), basis);
+        for (int i = 0; i < 20; i++) {
+            BigInteger factor = new BigInteger(1500, random);
+            expected = expected.multiply(factor);
+            product = product.multiply(ResidueNumber.of(new NumberListImpl(factor.toString()), basis));
+        }
+
+        assertEquals("multiply() implemented in a wrong way", expected.toString(8), product.toNumberListImpl().toString());
+    }
+
+    @Test
+    public void testParallelMultiply() {
+        ResidueNumber.Basis basis = new ResidueNumber.Basis(64000);
+        BigInteger a = new BigInteger(32000, new Random(1));
+        BigInteger b = new BigInteger(31000, new Random(2));
+
+        ResidueNumber product = ResidueNumber.of(new NumberListImpl(a.toString()), basis)
+                .multiply(ResidueNumber.of(new NumberListImpl(b.toString()), basis));
+
+        assertEquals("Parallel multiply() implemented in a wrong way",
+                new NumberListImpl(a.multiply(b).toString()), product.toNumberListImpl());
+    }
+
+    @Test
+    public void testZeroAndEquality() {
+        ResidueNumber.Basis basis = new ResidueNumber.Basis(100);
+        ResidueNumber zero = ResidueNumber.of(new NumberListImpl("0"), basis);
+        ResidueNumber value = ResidueNumber.of(new NumberListImpl("12345"), basis);
+
+        assertEquals("Zero round trip", "0", zero.toNumberListImpl().toString());
+        assertEquals("Product with zero", zero, value.multiply(zero));
+        assertEquals("Equal values should be equal", value, ResidueNumber.of(new NumberListImpl("12345"), basis));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testCapacityExceeded() {
+        ResidueNumber.Basis basis = new ResidueNumber.Basis(100);
+        ResidueNumber value = ResidueNumber.of(new NumberListImpl(BigInteger.ONE.shiftLeft(60).toString()), basis);
+
+        value.multiply(value);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDifferentBases() {
+        ResidueNumber.of(new NumberListImpl("2"), new ResidueNumber.Basis(100))
+                .multiply(ResidueNumber.of(new NumberListImpl("3"), new ResidueNumber.Basis(100)));
+    }
+}
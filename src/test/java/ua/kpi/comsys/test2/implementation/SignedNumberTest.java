@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SignedNumberTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testStringInput() {
+        NumberListImpl list = new NumberListImpl("-64");
+
+        assertEquals("Digits should hold the magnitude", 3, list.size());
+        assertEquals("Wrong sign", -1, list.signum());
+        assertEquals("Wrong octal notation", "-100", list.toString());
+        assertEquals("Wrong decimal notation", "-64", list.toDecimalString());
+        assertEquals("Wrong decimal conversion", "-64", list.changeScale().toString());
+    }
+
+    @Test
+    public void testNegativeZero() {
+        NumberListImpl zero = new NumberListImpl("-0");
+
+        assertEquals("Zero has no sign", 0, zero.signum());
+        assertEquals("Negative zero should print as zero", "0", zero.toString());
+        assertEquals("Negative zero should equal zero", new NumberListImpl("0"), zero);
+        assertEquals("Equal values should have equal hash codes", new NumberListImpl("0").hashCode(), zero.hashCode());
+    }
+
+    @Test
+    public void testFileRoundTrip() throws IOException {
+        File file = folder.newFile("negative.txt");
+        NumberListImpl list = new NumberListImpl("-1234567890123456789");
+
+        list.saveList(file);
+
+        assertEquals("Sign should be saved", "-1234567890123456789", Files.readString(file.toPath()));
+        assertEquals("Sign should be loaded", list, new NumberListImpl(file));
+    }
+
+    @Test
+    public void testMultiplication() {
+        NumberListImpl a = new NumberListImpl("-12");
+        NumberListImpl b = new NumberListImpl("5");
+
+        assertEquals("Wrong product sign", new NumberListImpl("-60"), a.additionalOperation(b));
+        assertEquals("Wrong product sign", new NumberListImpl("144"), a.additionalOperation(a));
+        assertEquals("Wrong power sign", new NumberListImpl("-1728"), a.pow(3));
+    }
+
+    @Test
+    public void testDivision() {
+        BigInteger dividend = BigInteger.valueOf(-1000);
+        for (long divisor : new long[] {7, -7}) {
+            NumberListImpl[] result = new NumberListImpl(dividend.toString())
+                    .divideAndRemainder(new NumberListImpl(Long.toString(divisor)));
+            BigInteger[] expected = dividend.divideAndRemainder(BigInteger.valueOf(divisor));
+
+            assertEquals("Wrong quotient", expected[0], result[0].toBigInteger());
+            assertEquals("Wrong remainder", expected[1], result[1].toBigInteger());
+        }
+    }
+
+    @Test
+    public void testOrdering() {
+        NumberListImpl minusTen = new NumberListImpl("-10");
+        NumberListImpl minusTwo = new NumberListImpl("-2");
+        NumberListImpl one = new NumberListImpl("1");
+
+        assertTrue("-10 should be less than -2", minusTen.compareTo(minusTwo) < 0);
+        assertTrue("-2 should be less than 1", minusTwo.compareTo(one) < 0);
+        assertNotEquals("Opposite signs should not be equal", new NumberListImpl("10"), minusTen);
+    }
+
+    @Test
+    public void testSetNegative() {
+        NumberListImpl list = new NumberListImpl("8");
+        int hash = list.hashCode();
+
+        list.setNegative(true);
+
+        assertEquals("Wrong octal notation", "-10", list.toString());
+        assertNotEquals("Hash code should follow the sign", hash, list.hashCode());
+
+        list.clear();
+        list.add((byte) 1);
+        assertEquals("clear() should reset the sign", 1, list.signum());
+    }
+
+    @Test
+    public void testBuilderAndResidues() {
+        NumberListImpl built = new NumberListBuilder().feed("-12").feed("34").build();
+        assertEquals("Builder should accept a leading minus", new NumberListImpl("-1234"), built);
+
+        ResidueNumber.Basis basis = new ResidueNumber.Basis(100);
+        ResidueNumber product = ResidueNumber.of(built, basis).multiply(ResidueNumber.of(new NumberListImpl("-2"), basis));
+        assertEquals("Residue product sign", new NumberListImpl("2468"), product.toNumberListImpl());
+    }
+
+    @Test
+    public void testSnapshotKeepsSign() {
+        NumberListImpl negative = new NumberListImpl("-42");
+        PersistentNumberList snapshot = negative.snapshot();
+        PersistentNumberList positive = new NumberListImpl("42").snapshot();
+
+        assertEquals("Snapshot should keep the sign", -1, snapshot.signum());
+        assertEquals("Snapshot should render the sign", negative.toString(), snapshot.toString());
+        assertEquals("Round trip should keep the sign", negative, snapshot.toNumberListImpl());
+        assertNotEquals("Opposite snapshots should differ", positive, snapshot);
+        assertTrue("Negative snapshot should be less", snapshot.compareTo(positive) < 0);
+        assertTrue("Negative snapshot should be less than the list", snapshot.compareTo(new NumberListImpl("1")) < 0);
+        assertTrue("List should be greater than the negative snapshot", new NumberListImpl("1").compareTo(snapshot) > 0);
+        assertEquals("Snapshot should compare equal to its list", 0, negative.compareTo(snapshot));
+        assertEquals("Hash codes should match the list", negative.hashCode(), snapshot.hashCode());
+        assertEquals("Derived lists should keep the sign", -1, snapshot.shiftedLeft().signum());
+    }
+
+    @Test
+    public void testSnapshotAfterSignChange() {
+        NumberListImpl list = new NumberListImpl("42");
+        PersistentNumberList before = list.snapshot();
+        list.setNegative(true);
+
+        assertEquals("Old snapshot should stay positive", 1, before.signum());
+        assertEquals("New snapshot should be negative", -1, list.snapshot().signum());
+        assertEquals("Negative zero snapshot has no sign", 0, new NumberListImpl("-0").snapshot().signum());
+    }
+}
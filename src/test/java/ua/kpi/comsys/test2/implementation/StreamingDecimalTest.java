@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StreamingDecimalTest {
+
+    static String HUGE = new BigInteger(40000, new Random(7)).toString();
+
+    @Test
+    public void testForEachDecimalDigit() {
+        NumberListImpl list = new NumberListImpl(HUGE);
+        StringBuilder sb = new StringBuilder();
+
+        list.forEachDecimalDigit(d -> sb.append((char) ('0' + d)));
+
+        assertEquals("Streamed digits are wrong", HUGE, sb.toString());
+    }
+
+    @Test
+    public void testWriteDecimalInChunks() {
+        NumberListImpl list = new NumberListImpl(HUGE);
+        StringBuilder sb = new StringBuilder();
+        int[] chunks = new int[1];
+
+        list.writeDecimal(buffer -> {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            sb.append(new String(bytes, StandardCharsets.US_ASCII));
+            chunks[0]++;
+        });
+
+        assertEquals("Streamed chunks are wrong", HUGE, sb.toString());
+        assertTrue("Huge number should be streamed in several chunks", chunks[0] > 1);
+    }
+
+    @Test
+    public void testZero() {
+        StringBuilder sb = new StringBuilder();
+
+        new NumberListImpl().writeDecimal(buffer -> sb.append((char) buffer.get()));
+
+        assertEquals("Zero streamed in a wrong way", "0", sb.toString());
+    }
+
+    @Test(expected = java.nio.ReadOnlyBufferException.class)
+    public void testReadOnlyChunks() {
+        new NumberListImpl("12").writeDecimal((ByteBuffer buffer) -> buffer.put(0, (byte) '9'));
+    }
+}
@@ -64,7 +64,13 @@ public class StringListTest {
         assertNotNull("List is null while it shouldn't!", list1);
         assertTrue("List should be empty!", list1.isEmpty());
 
-        value = "-4";
+        value = "4-";
+        list1 = new NumberListImpl(value);
+
+        assertNotNull("List is null while it shouldn't!", list1);
+        assertTrue("List should be empty!", list1.isEmpty());
+
+        value = "--4";
         list1 = new NumberListImpl(value);
 
         assertNotNull("List is null while it shouldn't!", list1);